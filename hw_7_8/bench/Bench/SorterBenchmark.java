@@ -0,0 +1,187 @@
+package Bench;
+
+import DSA.Sorting.GTUSorter;
+import DSA.Sorting.MyInsertSort;
+import DSA.Sorting.MyQuickSort;
+import DSA.Sorting.MySelectSort;
+import DSA.Sorting.MyTimSort;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for the GTUSorter implementations. Every combination of
+ * sorter, input size, input distribution and comparator type is measured.
+ * Run it with the gc profiler (make bench does) to get the allocation rate
+ * next to the time per sort.
+ *
+ * The sorted array is a fresh copy of the input on every call; the copy cost
+ * is measured on its own by the copyOnly benchmark so it can be subtracted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SorterBenchmark {
+
+    /**
+     * Sorter under test. MyQuickSort_X_N is MyQuickSort with X as the
+     * alternative sorter and N as the partition limit.
+     */
+    @Param({
+        "MyInsertSort",
+        "MySelectSort",
+        "MyQuickSort",
+        "MyQuickSort_MyInsertSort_10",
+        "MyQuickSort_MyInsertSort_32",
+        "MyQuickSort_MySelectSort_10",
+        "MyTimSort"
+    })
+    public String sorter;
+
+    /**
+     * Number of elements to sort.
+     */
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    /**
+     * Shape of the input: uniformly random, already sorted, sorted in reverse,
+     * or random with only a few distinct keys.
+     */
+    @Param({"random", "sorted", "reversed", "fewDistinct"})
+    public String distribution;
+
+    /**
+     * How elements are compared: Integer keys through a method reference,
+     * Integer keys through an anonymous descending comparator (as Main does),
+     * or objects compared on an int field.
+     */
+    @Param({"natural", "descending", "record"})
+    public String comparatorType;
+
+    private GTUSorter instance;
+    private Object[] input;
+    private Object[] work;
+    private Comparator<Object> comparator;
+
+    /**
+     * An object with an int key, standing in for GreedyGCA's vertices.
+     */
+    private static final class Item {
+        private final int key;
+
+        Item(int key) {
+            this.key = key;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        instance = createSorter(sorter);
+
+        int[] keys = createKeys(distribution, size, new Random(58));
+        input = new Object[size];
+        for (int i = 0; i < size; i++) {
+            input[i] = comparatorType.equals("record") ? new Item(keys[i]) : Integer.valueOf(keys[i]);
+        }
+        work = new Object[size];
+        comparator = createComparator(comparatorType);
+    }
+
+    @Benchmark
+    public Object[] sort() {
+        System.arraycopy(input, 0, work, 0, size);
+        instance.sort(work, comparator);
+        return work;
+    }
+
+    @Benchmark
+    public Object[] copyOnly() {
+        System.arraycopy(input, 0, work, 0, size);
+        return work;
+    }
+
+    /**
+     * Build a sorter from its parameter name.
+     */
+    static GTUSorter createSorter(String name) {
+        String[] parts = name.split("_");
+        switch (parts[0]) {
+            case "MyInsertSort":
+                return new MyInsertSort();
+            case "MySelectSort":
+                return new MySelectSort();
+            case "MyTimSort":
+                return new MyTimSort();
+            case "MyQuickSort":
+                if (parts.length == 1) {
+                    return new MyQuickSort();
+                }
+                return new MyQuickSort(createSorter(parts[1]), Integer.parseInt(parts[2]));
+            default:
+                throw new IllegalArgumentException("Unknown sorter: " + name);
+        }
+    }
+
+    /**
+     * Build the keys for an input distribution.
+     */
+    static int[] createKeys(String distribution, int size, Random random) {
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case "random":
+                    keys[i] = random.nextInt();
+                    break;
+                case "sorted":
+                    keys[i] = i;
+                    break;
+                case "reversed":
+                    keys[i] = size - i;
+                    break;
+                case "fewDistinct":
+                    keys[i] = random.nextInt(8);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Build the comparator for a comparator type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Comparator<Object> createComparator(String type) {
+        switch (type) {
+            case "natural":
+                return (Comparator) Comparator.<Integer>naturalOrder();
+            case "descending":
+                return (Comparator) new Comparator<Integer>() {
+                    @Override
+                    public int compare(Integer arg0, Integer arg1) {
+                        return arg1.compareTo(arg0);
+                    }
+                };
+            case "record":
+                return (Comparator) Comparator.comparingInt((Item item) -> item.key);
+            default:
+                throw new IllegalArgumentException("Unknown comparator type: " + type);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package DSA.Graphs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Binary, little-endian graph file format in CSR layout. A file consists of
+ *
+ * <pre>
+ * offset  size        field
+ * 0       4           magic, the bytes "GTUG"
+ * 4       4           format version
+ * 8       4           vertex count n
+ * 12      4           reserved, always 0
+ * 16      8           target count m (twice the number of edges)
+ * 24      8 * (n + 1) row offsets, int64
+ * ...     4 * m       row targets, int32, sorted within each row
+ * </pre>
+ *
+ * Files are read through a read-only MappedByteBuffer, so loading a graph is
+ * a bulk copy rather than a parse, and the same file can be mapped by several
+ * processes at once.
+ */
+public final class BinaryGraphFormat {
+
+    /**
+     * The bytes "GTUG" read as a little-endian int.
+     */
+    public static final int MAGIC = 0x47555447;
+
+    /**
+     * Current format version.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Size of the header in bytes.
+     */
+    public static final int HEADER_BYTES = 24;
+
+    /**
+     * Largest region mapped at once. MappedByteBuffer is indexed by int, so a
+     * large file is mapped in windows of this size.
+     */
+    private static final long WINDOW_BYTES = 1L << 30;
+
+    /**
+     * Size of the staging buffer used when writing.
+     */
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private BinaryGraphFormat() {
+    }
+
+    /**
+     * Header of a binary graph file.
+     */
+    public static final class Header {
+        /**
+         * The number of vertices.
+         */
+        public final int size;
+
+        /**
+         * The number of entries in the targets section.
+         */
+        public final long targetCount;
+
+        Header(int size, long targetCount) {
+            this.size = size;
+            this.targetCount = targetCount;
+        }
+
+        /**
+         * Byte position of the first row offset.
+         * @return position in the file.
+         */
+        public long offsetsPosition() {
+            return HEADER_BYTES;
+        }
+
+        /**
+         * Byte position of the first target.
+         * @return position in the file.
+         */
+        public long targetsPosition() {
+            return HEADER_BYTES + 8L * (size + 1);
+        }
+
+        /**
+         * Total size of a file with this header.
+         * @return size in bytes.
+         */
+        public long fileBytes() {
+            return targetsPosition() + 4L * targetCount;
+        }
+    }
+
+    /**
+     * Read and validate the header of an open binary graph file.
+     * @param channel Channel of the file.
+     * @return The header.
+     * @throws IOException if the file is not a valid binary graph file.
+     */
+    public static Header readHeader(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            throw new IOException("File too short for a graph header");
+        }
+
+        MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        map.order(ByteOrder.LITTLE_ENDIAN);
+        if (map.getInt(0) != MAGIC) {
+            throw new IOException("Not a binary graph file");
+        }
+        if (map.getInt(4) != VERSION) {
+            throw new IOException("Unsupported binary graph version: " + map.getInt(4));
+        }
+
+        int size = map.getInt(8);
+        long targetCount = map.getLong(16);
+        if (size < 0 || targetCount < 0) {
+            throw new IOException("Corrupt binary graph header");
+        }
+
+        Header header = new Header(size, targetCount);
+        if (channel.size() < header.fileBytes()) {
+            throw new IOException("Binary graph file is truncated");
+        }
+        return header;
+    }
+
+    /**
+     * Load a binary graph file into the given graph. The CSR arrays are copied
+     * out of the mapped file, checked (offsets ascending, every row strictly
+     * ascending and in range) and handed to GTUGraph.reset(int, int[], int[]).
+     * @param filePath Path to the file.
+     * @param graph Graph instance to reinitialize.
+     * @throws IOException if the file cannot be read or is not valid.
+     */
+    public static void read(String filePath, GTUGraph graph) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            Header header = readHeader(channel);
+            if (header.targetCount > Integer.MAX_VALUE - 8) {
+                throw new IOException("Graph too large for an on-heap graph: " + header.targetCount + " targets");
+            }
+
+            long[] longOffsets = new long[header.size + 1];
+            readLongs(channel, header.offsetsPosition(), longOffsets);
+            int[] offsets = new int[header.size + 1];
+            for (int i = 0; i <= header.size; i++) {
+                if (longOffsets[i] < 0 || longOffsets[i] > header.targetCount
+                        || (i > 0 && longOffsets[i] < longOffsets[i - 1])) {
+                    throw new IOException("Corrupt row offset at vertex " + i);
+                }
+                offsets[i] = (int) longOffsets[i];
+            }
+
+            int[] targets = new int[(int) header.targetCount];
+            readInts(channel, header.targetsPosition(), targets);
+            for (int v = 0; v < header.size; v++) {
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    if (targets[i] < 0 || targets[i] >= header.size
+                            || (i > offsets[v] && targets[i] <= targets[i - 1])) {
+                        throw new IOException("Corrupt target at position " + i);
+                    }
+                }
+            }
+
+            graph.reset(header.size, offsets, targets);
+        }
+    }
+
+    /**
+     * Write the given graph to a binary graph file. Rows are written in
+     * ascending order, so the file can be loaded directly as CSR arrays.
+     * @param filePath Path to the file.
+     * @param graph Graph instance.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(String filePath, GTUGraph graph) throws IOException {
+        int size = graph.size();
+        int maxDegree = 0;
+        long targetCount = 0;
+        for (int v = 0; v < size; v++) {
+            int degree = graph.degree(v);
+            maxDegree = Math.max(maxDegree, degree);
+            targetCount += degree;
+        }
+
+        Path path = Paths.get(filePath);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(0).putLong(targetCount);
+
+            long offset = 0;
+            for (int v = 0; v <= size; v++) {
+                if (buffer.remaining() < 8) {
+                    drain(channel, buffer);
+                }
+                buffer.putLong(offset);
+                if (v < size) {
+                    offset += graph.degree(v);
+                }
+            }
+
+            int[] neighbors = new int[maxDegree];
+            for (int v = 0; v < size; v++) {
+                int count = graph.copyNeighbors(v, neighbors);
+                Arrays.sort(neighbors, 0, count);
+                for (int i = 0; i < count; i++) {
+                    if (buffer.remaining() < 4) {
+                        drain(channel, buffer);
+                    }
+                    buffer.putInt(neighbors[i]);
+                }
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Bulk-read little-endian int64 values starting at a byte position.
+     * @param channel Channel of the file.
+     * @param position Byte position of the first value.
+     * @param dest Destination array, filled completely.
+     * @throws IOException if the file cannot be mapped.
+     */
+    static void readLongs(FileChannel channel, long position, long[] dest) throws IOException {
+        int done = 0;
+        while (done < dest.length) {
+            int count = (int) Math.min(dest.length - done, WINDOW_BYTES / 8);
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, position + 8L * done, 8L * count);
+            map.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(dest, done, count);
+            done += count;
+        }
+    }
+
+    /**
+     * Bulk-read little-endian int32 values starting at a byte position.
+     * @param channel Channel of the file.
+     * @param position Byte position of the first value.
+     * @param dest Destination array, filled completely.
+     * @throws IOException if the file cannot be mapped.
+     */
+    static void readInts(FileChannel channel, long position, int[] dest) throws IOException {
+        int done = 0;
+        while (done < dest.length) {
+            int count = (int) Math.min(dest.length - done, WINDOW_BYTES / 4);
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, position + 4L * done, 4L * count);
+            map.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(dest, done, count);
+            done += count;
+        }
+    }
+
+    /**
+     * Write out everything in the buffer and clear it.
+     * @param channel Destination channel.
+     * @param buffer Buffer in write mode.
+     * @throws IOException if writing fails.
+     */
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,417 @@
+package DSA.Graphs.CSRGraph;
+
+import DSA.Graphs.GTUGraph;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * CSRGraph class implements the GTUGraph interface using the compressed sparse
+ * row (CSR) layout. The neighbors of vertex v are stored, sorted, in
+ * targets[offsets[v], offsets[v + 1]). Memory grows with the number of edges
+ * instead of the square of the number of vertices, which suits sparse graphs.
+ *
+ * Edges added with setEdge are collected in a pending edge list and are
+ * compacted into the CSR arrays in bulk the next time the graph is queried.
+ * Because of this, the graph must not be queried from several threads until
+ * it has been compacted (see compact()).
+ */
+public class CSRGraph implements GTUGraph {
+
+    /**
+     * The number of vertices in the graph.
+     */
+    private int numVertices;
+
+    /**
+     * Row start indices into the targets array. Has numVertices + 1 entries.
+     */
+    private int[] offsets;
+
+    /**
+     * Concatenated, sorted neighbor lists of all vertices.
+     */
+    private int[] targets;
+
+    /**
+     * Edges that were added but not compacted yet, stored as (v1, v2) pairs.
+     */
+    private int[] pending;
+
+    /**
+     * The number of edges in the pending list.
+     */
+    private int pendingCount;
+
+    /**
+     * Default constructor that initializes the graph with zero vertices.
+     */
+    public CSRGraph() {
+        this(0);
+    }
+
+    /**
+     * Constructs a CSRGraph with the specified number of vertices and no
+     * edges.
+     *
+     * @param size The number of vertices in the graph
+     * @throws IllegalArgumentException if size is negative
+     *
+     * Time Complexity: O(n) where n is the size
+     */
+    public CSRGraph(int size) {
+        reset(size);
+    }
+
+    /**
+     * Constructs a CSRGraph in bulk from an edge list. The edge list holds
+     * edgeCount (v1, v2) pairs in consecutive entries. Invalid edges (out of
+     * bounds or self-loops) are ignored, as they are by setEdge.
+     *
+     * Time Complexity: O(n + m log d) where m is the number of edges and d is
+     * the maximum degree.
+     *
+     * @param size The number of vertices in the graph
+     * @param edges The edge list as consecutive (v1, v2) pairs
+     * @param edgeCount The number of pairs to read from edges
+     * @throws IllegalArgumentException if size is negative
+     */
+    public CSRGraph(int size, int[] edges, int edgeCount) {
+        reset(size);
+        pending = Arrays.copyOf(edges, 2 * edgeCount);
+        pendingCount = edgeCount;
+        compact();
+    }
+
+    /**
+     * Constructs a CSRGraph directly from CSR arrays. The arrays are used as
+     * they are, without copying; every row must be sorted in ascending order,
+     * free of duplicates, and the edges must be symmetric.
+     *
+     * Time Complexity: O(1)
+     *
+     * @param size The number of vertices in the graph
+     * @param offsets Row start indices, size + 1 entries
+     * @param targets Concatenated neighbor lists
+     * @throws IllegalArgumentException if the arrays do not describe a graph
+     * of the given size
+     */
+    public CSRGraph(int size, int[] offsets, int[] targets) {
+        reset(size, offsets, targets);
+    }
+
+    /**
+     * Adds an edge between two vertices. The edge is appended to the pending
+     * edge list; it becomes part of the CSR arrays at the next compaction.
+     *
+     * Complexity: O(log d) amortized, for checking the compacted row of v1.
+     *
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return true if the edge was accepted, false if the vertices are out of
+     * bounds, equal, or if the edge already exists in the compacted graph.
+     * An edge added twice before a compaction is accepted twice but stored
+     * once.
+     */
+    @Override
+    public Boolean setEdge(int v1, int v2) {
+        if (v1 < 0 || v1 >= numVertices || v2 < 0 || v2 >= numVertices || v1 == v2) {
+            return false;
+        }
+
+        if (Arrays.binarySearch(targets, offsets[v1], offsets[v1 + 1], v2) >= 0) {
+            return false;
+        }
+
+        if (2 * pendingCount + 2 > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(16, 2 * pending.length));
+        }
+        pending[2 * pendingCount] = v1;
+        pending[2 * pendingCount + 1] = v2;
+        pendingCount++;
+        return true;
+    }
+
+    /**
+     * Appends a batch of edges to the pending edge list without checking
+     * them one by one. Invalid and duplicate edges are dropped at the next
+     * compaction.
+     *
+     * Complexity: O(m) amortized, where m is the number of edges in the batch.
+     *
+     * @param edges Edges as consecutive (v1, v2) pairs
+     * @param edgeCount Number of pairs to read from edges
+     */
+    @Override
+    public void setEdges(int[] edges, int edgeCount) {
+        if (2L * (pendingCount + edgeCount) > pending.length) {
+            pending = Arrays.copyOf(pending, (int) Math.min(Integer.MAX_VALUE - 8,
+                    Math.max(2L * (pendingCount + edgeCount), 2L * pending.length)));
+        }
+        System.arraycopy(edges, 0, pending, 2 * pendingCount, 2 * edgeCount);
+        pendingCount += edgeCount;
+    }
+
+    /**
+     * Checks whether an edge exists between vertex v1 and vertex v2 with a
+     * binary search in the sorted row of v1.
+     *
+     * Complexity: O(log d) where d is the degree of v1.
+     *
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return true if the edge exists, false if the vertices are out of bounds
+     * or if the edge does not exist.
+     */
+    @Override
+    public Boolean getEdge(int v1, int v2) {
+        if (v1 < 0 || v1 >= numVertices || v2 < 0 || v2 >= numVertices) {
+            return false;
+        }
+        compact();
+
+        return Arrays.binarySearch(targets, offsets[v1], offsets[v1 + 1], v2) >= 0;
+    }
+
+    /**
+     * Retrieves the neighbors of a given vertex as a read-only view over its
+     * row. No elements are copied.
+     *
+     * Complexity: O(1)
+     *
+     * @param v The vertex index for which to retrieve neighbors
+     * @return A collection of integers representing the neighbors of vertex v
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public Collection<Integer> getNeighbors(int v) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+        compact();
+
+        return new CSRRow(targets, offsets[v], offsets[v + 1]);
+    }
+
+    /**
+     * Calls action for every neighbor of vertex v in ascending order.
+     *
+     * Complexity: O(k) where k is the number of neighbors of v.
+     *
+     * @param v The vertex index
+     * @param action The action to run for each neighbor
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public void forEachNeighbor(int v, IntConsumer action) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+        compact();
+
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            action.accept(targets[i]);
+        }
+    }
+
+    /**
+     * Returns the first neighbor of vertex v, in ascending order, for which
+     * predicate holds, stopping at the first match.
+     *
+     * Complexity: O(k) in the worst case, where k is the number of neighbors
+     * of v.
+     *
+     * @param v The vertex index
+     * @param predicate The test to run on each neighbor
+     * @return The first matching neighbor, or -1 if there is none
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public int findNeighbor(int v, IntPredicate predicate) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+        compact();
+
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            if (predicate.test(targets[i])) {
+                return targets[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of neighbors of vertex v.
+     *
+     * Complexity: O(1)
+     *
+     * @param v The vertex index
+     * @return The degree of vertex v
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public int degree(int v) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+        compact();
+
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Copies the neighbors of vertex v into dest in ascending order.
+     *
+     * Complexity: O(k) where k is the number of neighbors of v.
+     *
+     * @param v The vertex index
+     * @param dest The destination array, at least degree(v) long
+     * @return The number of neighbors copied
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     * @throws IllegalArgumentException if dest is too small
+     */
+    @Override
+    public int copyNeighbors(int v, int[] dest) {
+        int count = degree(v);
+        if (dest.length < count) {
+            throw new IllegalArgumentException("Destination array too small: " + dest.length);
+        }
+
+        System.arraycopy(targets, offsets[v], dest, 0, count);
+        return count;
+    }
+
+    /**
+     * get size of the graph.
+     *
+     * Complexity: O(1)
+     *
+     * @return The number of vertices in the graph
+     */
+    @Override
+    public int size() {
+        return numVertices;
+    }
+
+    /**
+     * Resets the graph to a new size with no edges.
+     *
+     * Complexity: O(n) where n is the new size.
+     *
+     * @param size The new number of vertices for the graph
+     * @throws IllegalArgumentException if size is negative
+     */
+    @Override
+    public void reset(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+
+        this.numVertices = size;
+        this.offsets = new int[size + 1];
+        this.targets = new int[0];
+        this.pending = new int[0];
+        this.pendingCount = 0;
+    }
+
+    /**
+     * Resets the graph to the given CSR arrays. The arrays are adopted without
+     * copying; every row must be sorted in ascending order, free of
+     * duplicates, and the edges must be symmetric.
+     *
+     * Complexity: O(1)
+     *
+     * @param size The new number of vertices for the graph
+     * @param offsets Row start indices, size + 1 entries
+     * @param targets Concatenated neighbor lists
+     * @throws IllegalArgumentException if the arrays do not describe a graph
+     * of the given size
+     */
+    @Override
+    public void reset(int size, int[] offsets, int[] targets) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (offsets.length != size + 1 || offsets[0] != 0 || offsets[size] != targets.length) {
+            throw new IllegalArgumentException("Offsets do not match the graph size");
+        }
+
+        this.numVertices = size;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.pending = new int[0];
+        this.pendingCount = 0;
+    }
+
+    /**
+     * Merges the pending edge list into the CSR arrays. Rows are rebuilt with
+     * a counting pass over the degrees, then every row is sorted and its
+     * duplicates are dropped. Calling this method when there are no pending
+     * edges does nothing.
+     *
+     * Complexity: O(n + m log d) where m is the number of stored edges and d
+     * is the maximum degree.
+     */
+    public void compact() {
+        if (pendingCount == 0) {
+            return;
+        }
+
+        // Count the new degree of every vertex, keeping only valid edges.
+        int[] newOffsets = new int[numVertices + 1];
+        for (int v = 0; v < numVertices; v++) {
+            newOffsets[v + 1] = offsets[v + 1] - offsets[v];
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            int v1 = pending[2 * i];
+            int v2 = pending[2 * i + 1];
+            if (v1 >= 0 && v1 < numVertices && v2 >= 0 && v2 < numVertices && v1 != v2) {
+                newOffsets[v1 + 1]++;
+                newOffsets[v2 + 1]++;
+            }
+        }
+        for (int v = 0; v < numVertices; v++) {
+            newOffsets[v + 1] += newOffsets[v];
+        }
+
+        // Scatter the old rows and the pending edges into place.
+        int[] newTargets = new int[newOffsets[numVertices]];
+        int[] fill = Arrays.copyOf(newOffsets, numVertices);
+        for (int v = 0; v < numVertices; v++) {
+            int length = offsets[v + 1] - offsets[v];
+            System.arraycopy(targets, offsets[v], newTargets, fill[v], length);
+            fill[v] += length;
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            int v1 = pending[2 * i];
+            int v2 = pending[2 * i + 1];
+            if (v1 >= 0 && v1 < numVertices && v2 >= 0 && v2 < numVertices && v1 != v2) {
+                newTargets[fill[v1]++] = v2;
+                newTargets[fill[v2]++] = v1;
+            }
+        }
+
+        // Sort every row and squeeze out duplicates in place.
+        int write = 0;
+        int rowStart = 0;
+        for (int v = 0; v < numVertices; v++) {
+            int rowEnd = newOffsets[v + 1];
+            Arrays.sort(newTargets, rowStart, rowEnd);
+            newOffsets[v] = write;
+            for (int i = rowStart; i < rowEnd; i++) {
+                if (i == rowStart || newTargets[i] != newTargets[i - 1]) {
+                    newTargets[write++] = newTargets[i];
+                }
+            }
+            rowStart = rowEnd;
+        }
+        newOffsets[numVertices] = write;
+
+        this.offsets = newOffsets;
+        this.targets = write == newTargets.length ? newTargets : Arrays.copyOf(newTargets, write);
+        this.pending = new int[0];
+        this.pendingCount = 0;
+    }
+}
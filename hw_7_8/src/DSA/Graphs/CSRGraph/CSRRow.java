@@ -0,0 +1,98 @@
+package DSA.Graphs.CSRGraph;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * CSRRow is a read-only view over the neighbors of a single vertex of a
+ * CSRGraph. It does not copy anything; it only remembers the slice of the
+ * shared targets array that belongs to the vertex. The slice is sorted in
+ * ascending order, so membership is answered with a binary search.
+ */
+public class CSRRow extends AbstractCollection<Integer> {
+
+    /**
+     * The targets array of the graph this row belongs to.
+     */
+    private final int[] targets;
+
+    /**
+     * First index of the row in the targets array (inclusive).
+     */
+    private final int start;
+
+    /**
+     * Last index of the row in the targets array (exclusive).
+     */
+    private final int end;
+
+    /**
+     * Constructs a view over targets[start, end).
+     *
+     * @param targets the targets array of the graph
+     * @param start first index of the row (inclusive)
+     * @param end last index of the row (exclusive)
+     */
+    CSRRow(int[] targets, int start, int end) {
+        this.targets = targets;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns an iterator over the neighbors in ascending order.
+     *
+     * Complexity: O(1) per step.
+     *
+     * @return an iterator over the neighbors
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private int currentIndex = start;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < end;
+            }
+
+            @Override
+            public Integer next() {
+                if (currentIndex >= end) {
+                    throw new NoSuchElementException();
+                }
+                return targets[currentIndex++];
+            }
+        };
+    }
+
+    /**
+     * Returns the number of neighbors in this row.
+     *
+     * Complexity: O(1).
+     *
+     * @return the number of neighbors
+     */
+    @Override
+    public int size() {
+        return end - start;
+    }
+
+    /**
+     * Checks if the row contains the given vertex.
+     *
+     * Complexity: O(log k), where k is the number of neighbors.
+     *
+     * @param o the element to check for presence
+     * @return true if the element is present, false otherwise
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof Integer) {
+            return Arrays.binarySearch(targets, start, end, (Integer) o) >= 0;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,313 @@
+package DSA.Graphs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A parser for the text edge-list format used by GTUGraph.readGraph: the
+ * first line holds the vertex count, every following line holds the two
+ * endpoints of an edge separated by whitespace.
+ *
+ * The file is split into newline-aligned chunks which are parsed directly
+ * from mapped bytes on a pool of worker threads. Parsed edges are handed to
+ * a Sink in batches, one batch per chunk, in file order and on the calling
+ * thread, so the sink does not need to be thread-safe. Only a bounded number
+ * of chunks is in flight at any time, so memory use does not grow with the
+ * size of the file.
+ */
+public final class EdgeListParser {
+
+    /**
+     * Receiver of the parsed file contents.
+     */
+    public interface Sink {
+        /**
+         * Called once with the vertex count, before any edges.
+         * @param size Vertex count from the first line.
+         */
+        void begin(int size);
+
+        /**
+         * Called for each batch of edges, in file order.
+         * @param edges Edges as consecutive (v1, v2) pairs.
+         * @param edgeCount Number of pairs in edges.
+         */
+        void edges(int[] edges, int edgeCount);
+    }
+
+    /**
+     * Default chunk size in bytes.
+     */
+    public static final int DEFAULT_CHUNK_BYTES = 8 << 20;
+
+    /**
+     * Longest first line that is accepted.
+     */
+    private static final int MAX_HEADER_BYTES = 4096;
+
+    /**
+     * Number of worker threads.
+     */
+    private final int threads;
+
+    /**
+     * Target chunk size in bytes.
+     */
+    private final int chunkBytes;
+
+    /**
+     * Creates a parser with one worker per available processor and the
+     * default chunk size.
+     */
+    public EdgeListParser() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Creates a parser.
+     * @param threads Number of worker threads.
+     * @param chunkBytes Target chunk size in bytes.
+     * @throws IllegalArgumentException if threads or chunkBytes is not positive.
+     */
+    public EdgeListParser(int threads, int chunkBytes) {
+        if (threads <= 0 || chunkBytes <= 0) {
+            throw new IllegalArgumentException("Thread count and chunk size must be positive");
+        }
+        this.threads = threads;
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * Parse the file and feed its contents to the sink.
+     * @param filePath Path to the file.
+     * @param sink Receiver of the header and edge batches.
+     * @return Number of edges parsed.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public long parse(String filePath, Sink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+
+            // The first line holds the vertex count.
+            ByteBuffer head = ByteBuffer.allocate((int) Math.min(fileSize, MAX_HEADER_BYTES));
+            readFully(channel, head, 0);
+            int headerEnd = indexOf(head, (byte) '\n');
+            if (headerEnd < 0 && fileSize > MAX_HEADER_BYTES) {
+                throw new IOException("First line is too long");
+            }
+            int headerLength = headerEnd < 0 ? head.limit() : headerEnd;
+            ChunkParser headerParser = new ChunkParser(0);
+            headerParser.parse(head, 0, headerLength);
+            if (headerParser.edgeCount != 0 || headerParser.pendingValues != 1) {
+                throw new IOException("First line must hold the graph size");
+            }
+            sink.begin(headerParser.pendingFirst);
+
+            long position = headerLength + 1L;
+            long edges = 0;
+            ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "edge-list-parser");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                ArrayDeque<Future<ChunkParser>> inFlight = new ArrayDeque<>();
+                while (position < fileSize || !inFlight.isEmpty()) {
+                    // Keep a bounded window of chunks queued.
+                    while (position < fileSize && inFlight.size() < 2 * threads) {
+                        long end = chunkEnd(channel, position, fileSize);
+                        inFlight.add(pool.submit(chunkTask(channel, position, end)));
+                        position = end;
+                    }
+
+                    ChunkParser done = inFlight.poll().get();
+                    if (done.edgeCount > 0) {
+                        sink.edges(done.edges, done.edgeCount);
+                        edges += done.edgeCount;
+                    }
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while parsing " + filePath);
+            } finally {
+                pool.shutdownNow();
+            }
+            return edges;
+        }
+    }
+
+    /**
+     * Find the end of the chunk that starts at the given position: the byte
+     * after the first newline at or past start + chunkBytes.
+     * @param channel Channel of the file.
+     * @param start Chunk start.
+     * @param fileSize Size of the file.
+     * @return Chunk end (exclusive).
+     * @throws IOException if the file cannot be read.
+     */
+    private long chunkEnd(FileChannel channel, long start, long fileSize) throws IOException {
+        long end = start + chunkBytes;
+        ByteBuffer probe = ByteBuffer.allocate(256);
+        while (end < fileSize) {
+            probe.clear();
+            probe.limit((int) Math.min(probe.capacity(), fileSize - end));
+            readFully(channel, probe, end);
+            int newline = indexOf(probe, (byte) '\n');
+            if (newline >= 0) {
+                return end + newline + 1;
+            }
+            end += probe.limit();
+        }
+        return fileSize;
+    }
+
+    /**
+     * Create a task that maps and parses the given byte range.
+     * @param channel Channel of the file.
+     * @param start First byte (inclusive).
+     * @param end Last byte (exclusive).
+     * @return The task.
+     */
+    private static Callable<ChunkParser> chunkTask(FileChannel channel, long start, long end) {
+        return () -> {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            ChunkParser parser = new ChunkParser(start);
+            parser.parse(map, 0, map.limit());
+            parser.finish();
+            return parser;
+        };
+    }
+
+    /**
+     * Read from the channel until the buffer is full or the file ends. The
+     * buffer is flipped afterwards.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Index of the first occurrence of value in the buffer, or -1.
+     */
+    private static int indexOf(ByteBuffer buffer, byte value) {
+        for (int i = 0; i < buffer.limit(); i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Byte-level parser for one chunk. Integers are accumulated directly from
+     * the digits, without creating strings. A line with no values is skipped,
+     * a line with one value is an error, and values after the second one on a
+     * line are ignored.
+     */
+    private static final class ChunkParser {
+        private final long baseOffset;
+        private int[] edges = new int[1024];
+        private int edgeCount;
+
+        private int pendingValues;
+        private int pendingFirst;
+        private int pendingSecond;
+
+        ChunkParser(long baseOffset) {
+            this.baseOffset = baseOffset;
+        }
+
+        void parse(ByteBuffer bytes, int from, int to) throws IOException {
+            int i = from;
+            while (i < to) {
+                byte b = bytes.get(i);
+                if (b == '\n') {
+                    endLine(i);
+                    i++;
+                } else if (b == ' ' || b == '\t' || b == '\r') {
+                    i++;
+                } else {
+                    boolean negative = b == '-';
+                    if (negative) {
+                        i++;
+                    }
+                    int start = i;
+                    long value = 0;
+                    while (i < to) {
+                        int digit = bytes.get(i) - '0';
+                        if (digit < 0 || digit > 9) {
+                            break;
+                        }
+                        value = value * 10 + digit;
+                        if (value > (long) Integer.MAX_VALUE + 1) {
+                            throw new IOException("Number out of range at byte " + (baseOffset + start));
+                        }
+                        i++;
+                    }
+                    if (i == start || (i < to && !isSeparator(bytes.get(i)))) {
+                        throw new IOException("Unexpected character at byte " + (baseOffset + i));
+                    }
+                    value = negative ? -value : value;
+                    if (value > Integer.MAX_VALUE) {
+                        throw new IOException("Number out of range at byte " + (baseOffset + start));
+                    }
+                    addValue((int) value);
+                }
+            }
+        }
+
+        void finish() throws IOException {
+            endLine(-1);
+        }
+
+        private static boolean isSeparator(byte b) {
+            return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+        }
+
+        private void addValue(int value) {
+            if (pendingValues == 0) {
+                pendingFirst = value;
+            } else if (pendingValues == 1) {
+                pendingSecond = value;
+            }
+            pendingValues++;
+        }
+
+        private void endLine(int position) throws IOException {
+            if (pendingValues == 1) {
+                throw new IOException("Edge with a single endpoint before byte " + (baseOffset + Math.max(position, 0)));
+            }
+            if (pendingValues >= 2) {
+                if (2 * edgeCount + 2 > edges.length) {
+                    edges = Arrays.copyOf(edges, 2 * edges.length);
+                }
+                edges[2 * edgeCount] = pendingFirst;
+                edges[2 * edgeCount + 1] = pendingSecond;
+                edgeCount++;
+            }
+            pendingValues = 0;
+        }
+    }
+}
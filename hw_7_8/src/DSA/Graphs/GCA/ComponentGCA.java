@@ -0,0 +1,234 @@
+package DSA.Graphs.GCA;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import DSA.Graphs.GTUGraph;
+import DSA.Graphs.Traversal.ConnectedComponents;
+
+/**
+ * A graph coloring algorithm that splits the graph into its connected
+ * components and colors them independently on a fork/join pool. Within a
+ * component the vertices are colored greedily in smallest-last order (Matula
+ * and Beck): the vertex of smallest remaining degree is removed repeatedly,
+ * and the vertices are colored in the reverse order of removal. This uses at
+ * most one color more than the degeneracy of the component.
+ *
+ * No edge connects two components, so every component numbers its colors
+ * from 0 and the colors are merged by ID: the solution needs as many colors
+ * as the most demanding component, not their sum.
+ *
+ * The graph is only read during the parallel phase, so it must support
+ * concurrent reads once its size and degrees have been queried.
+ */
+public class ComponentGCA {
+    /**
+     * Number of vertices above which a range of components is split between
+     * two tasks.
+     */
+    private static final int LEAF_SIZE = 4096;
+
+    /**
+     * The pool that colors the components.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Number of components found by the last call to solve.
+     */
+    private int componentCount;
+
+    /**
+     * Creates a solver that runs on the common pool.
+     */
+    public ComponentGCA() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a solver.
+     * @param pool The pool that colors the components.
+     */
+    public ComponentGCA(ForkJoinPool pool) {
+        this.pool = pool;
+        this.componentCount = 0;
+    }
+
+    /**
+     * Get the number of components found by the last call to solve.
+     * @return number of components.
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Return a graph coloring solution for the graph.
+     * @param graph The graph to be colored.
+     * @return A graph coloring solution.
+     */
+    public GCASolution solve(GTUGraph graph) {
+        int n = graph.size();
+
+        // Sequential pass: finish any lazy setup in the graph before the parallel reads.
+        ConnectedComponents components = new ConnectedComponents(graph);
+        componentCount = components.count();
+
+        int[] colorOf = new int[n];
+        Arrays.fill(colorOf, -1);
+        int[] localIndex = new int[n];
+        pool.invoke(new ComponentTask(graph, components, colorOf, localIndex, 0, componentCount));
+
+        GCASolution solution = new GCASolution(n);
+        for (int v = 0; v < n; v++) {
+            while (colorOf[v] >= solution.colorNum()) {
+                solution.addColor();
+            }
+            solution.setColor(v, colorOf[v]);
+        }
+        return solution;
+    }
+
+    /**
+     * Colors the components in [start, end). Ranges holding more than
+     * LEAF_SIZE vertices are split in half, so large components get a task of
+     * their own and small ones are batched.
+     */
+    private static class ComponentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GTUGraph graph;
+        private final ConnectedComponents components;
+        private final int[] colorOf;
+        private final int[] localIndex;
+        private final int start;
+        private final int end;
+
+        ComponentTask(GTUGraph graph, ConnectedComponents components, int[] colorOf, int[] localIndex,
+                int start, int end) {
+            this.graph = graph;
+            this.components = components;
+            this.colorOf = colorOf;
+            this.localIndex = localIndex;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > 1) {
+                int vertices = 0;
+                for (int c = start; c < end && vertices <= LEAF_SIZE; c++) {
+                    vertices += components.size(c);
+                }
+                if (vertices > LEAF_SIZE) {
+                    int mid = (start + end) >>> 1;
+                    invokeAll(new ComponentTask(graph, components, colorOf, localIndex, start, mid),
+                            new ComponentTask(graph, components, colorOf, localIndex, mid, end));
+                    return;
+                }
+            }
+
+            FreeColorFinder finder = new FreeColorFinder(16);
+            int[] neighbors = new int[16];
+            for (int c = start; c < end; c++) {
+                int[] vertices = components.getVertices(c);
+                if (vertices.length == 1) {
+                    colorOf[vertices[0]] = 0;
+                    continue;
+                }
+
+                int maxDegree = 0;
+                for (int v : vertices) {
+                    maxDegree = Math.max(maxDegree, graph.degree(v));
+                }
+                if (neighbors.length < maxDegree) {
+                    neighbors = new int[maxDegree];
+                }
+
+                // Color in smallest-last order.
+                for (int v : smallestLast(graph, vertices, localIndex, maxDegree, neighbors)) {
+                    int count = graph.copyNeighbors(v, neighbors);
+                    colorOf[v] = finder.find(neighbors, count, colorOf);
+                }
+            }
+        }
+    }
+
+    /**
+     * Order the vertices of one component so that every vertex has the
+     * smallest degree among itself and the vertices before it. Degrees are
+     * kept in buckets with doubly linked lists, so the order is found in
+     * O(k + e) for a component with k vertices and e edges.
+     * @param graph The graph.
+     * @param vertices Vertices of the component.
+     * @param localIndex Scratch array of graph size; only the entries of the
+     * component are written.
+     * @param maxDegree Largest degree in the component.
+     * @param neighbors Buffer of at least maxDegree entries.
+     * @return The vertices in smallest-last order.
+     */
+    private static int[] smallestLast(GTUGraph graph, int[] vertices, int[] localIndex, int maxDegree, int[] neighbors) {
+        int k = vertices.length;
+        int[] degree = new int[k];
+        int[] head = new int[maxDegree + 1];
+        int[] next = new int[k];
+        int[] prev = new int[k];
+        boolean[] removed = new boolean[k];
+        Arrays.fill(head, -1);
+
+        for (int i = 0; i < k; i++) {
+            localIndex[vertices[i]] = i;
+        }
+        for (int i = 0; i < k; i++) {
+            degree[i] = graph.degree(vertices[i]);
+            link(head, next, prev, i, degree[i]);
+        }
+
+        int[] order = new int[k];
+        int lowest = 0;
+        for (int position = k - 1; position >= 0; position--) {
+            while (head[lowest] < 0) {
+                lowest++;
+            }
+            int i = head[lowest];
+            unlink(head, next, prev, i, lowest);
+            removed[i] = true;
+            order[position] = vertices[i];
+
+            int count = graph.copyNeighbors(vertices[i], neighbors);
+            for (int j = 0; j < count; j++) {
+                int u = localIndex[neighbors[j]];
+                if (!removed[u]) {
+                    unlink(head, next, prev, u, degree[u]);
+                    degree[u]--;
+                    link(head, next, prev, u, degree[u]);
+                }
+            }
+            // A neighbor may now be one bucket lower than the removed vertex.
+            lowest = Math.max(0, lowest - 1);
+        }
+        return order;
+    }
+
+    private static void link(int[] head, int[] next, int[] prev, int i, int bucket) {
+        prev[i] = -1;
+        next[i] = head[bucket];
+        if (head[bucket] >= 0) {
+            prev[head[bucket]] = i;
+        }
+        head[bucket] = i;
+    }
+
+    private static void unlink(int[] head, int[] next, int[] prev, int i, int bucket) {
+        if (prev[i] >= 0) {
+            next[prev[i]] = next[i];
+        } else {
+            head[bucket] = next[i];
+        }
+        if (next[i] >= 0) {
+            prev[next[i]] = prev[i];
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package DSA.Graphs.GCA;
+
+import java.util.Arrays;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * The DSATUR graph coloring algorithm. It repeatedly colors the uncolored
+ * vertex with the most distinct colors among its neighbors (its saturation
+ * degree), breaking ties by the number of uncolored neighbors, and gives it
+ * the smallest color that none of its neighbors has.
+ *
+ * Saturation degrees are kept in an indexed heap, so picking the next vertex
+ * and updating a neighbor both cost O(log n). The whole run costs
+ * O((n + m) log n).
+ */
+public class DSaturGCA {
+    /**
+     * Return a graph coloring solution for the graph.
+     * @param graph The graph to be colored.
+     * @return A graph coloring solution.
+     */
+    public static GCASolution solve(GTUGraph graph) {
+        int n = graph.size();
+        int[] degrees = new int[n];
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            degrees[v] = graph.degree(v);
+            maxDegree = Math.max(maxDegree, degrees[v]);
+        }
+
+        // neighborColors[v] is a bitset of the colors seen among v's neighbors,
+        // allocated on first use and dropped once v is colored.
+        long[][] neighborColors = new long[n][];
+        int[] colorOf = new int[n];
+        Arrays.fill(colorOf, -1);
+
+        SaturationQueue queue = new SaturationQueue(degrees);
+        FreeColorFinder finder = new FreeColorFinder(maxDegree + 1);
+        int[] neighbors = new int[maxDegree];
+        GCASolution solution = new GCASolution(n);
+
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            int neighborCount = graph.copyNeighbors(v, neighbors);
+            int color = finder.find(neighbors, neighborCount, colorOf);
+
+            if (color == solution.colorNum()) {
+                solution.addColor();
+            }
+            solution.setColor(v, color);
+            colorOf[v] = color;
+            neighborColors[v] = null;
+
+            // Update the saturation of the uncolored neighbors.
+            for (int j = 0; j < neighborCount; j++) {
+                int u = neighbors[j];
+                if (!queue.contains(u)) {
+                    continue;
+                }
+                long[] seen = neighborColors[u];
+                int word = color >>> 6;
+                if (seen == null || word >= seen.length) {
+                    seen = seen == null ? new long[word + 1] : Arrays.copyOf(seen, Math.max(word + 1, 2 * seen.length));
+                    neighborColors[u] = seen;
+                }
+                boolean newColor = (seen[word] & (1L << color)) == 0;
+                seen[word] |= 1L << color;
+                queue.neighborColored(u, newColor);
+            }
+        }
+
+        return solution;
+    }
+}
@@ -0,0 +1,63 @@
+package DSA.Graphs.GCA;
+
+import java.util.Arrays;
+
+/**
+ * Finds the smallest color that none of the neighbors of a vertex uses. The
+ * colors of the neighbors are marked in an array with a stamp that changes on
+ * every call, so the array never has to be cleared and a lookup costs
+ * O(degree) instead of a scan over every vertex of every color.
+ */
+class FreeColorFinder {
+    /**
+     * marks[c] == stamp means color c is used by a neighbor in the current
+     * call.
+     */
+    private int[] marks;
+
+    /**
+     * Stamp of the current call.
+     */
+    private int stamp;
+
+    /**
+     * Creates a finder. The mark array grows when needed.
+     * @param capacity Initial number of colors.
+     */
+    FreeColorFinder(int capacity) {
+        this.marks = new int[Math.max(1, capacity)];
+        this.stamp = 0;
+    }
+
+    /**
+     * Return the smallest color that is not used by any of the given
+     * neighbors. The result may be equal to the current number of colors,
+     * meaning a new color is needed.
+     * @param neighbors Neighbor IDs.
+     * @param count Number of valid entries in neighbors.
+     * @param colorOf Color of every vertex, or a negative value if uncolored.
+     * @return The smallest free color.
+     */
+    int find(int[] neighbors, int count, int[] colorOf) {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(marks, 0);
+            stamp = 1;
+        }
+
+        for (int j = 0; j < count; j++) {
+            int c = colorOf[neighbors[j]];
+            if (c >= 0) {
+                if (c >= marks.length) {
+                    marks = Arrays.copyOf(marks, Math.max(2 * marks.length, c + 1));
+                }
+                marks[c] = stamp;
+            }
+        }
+
+        int c = 0;
+        while (c < marks.length && marks[c] == stamp) {
+            c++;
+        }
+        return c;
+    }
+}
@@ -1,7 +1,7 @@
 package DSA.Graphs.GCA;
 
 import DSA.Graphs.MatrixGraph.AdjacencyVect;
-import java.io.FileWriter;
+import DSA.IO.IntWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -9,7 +9,7 @@ import java.util.List;
  * A class representing a graph coloring solution. 
  */
 public class GCASolution {
-    private List<Collection<Integer>> colors;
+    private List<AdjacencyVect> colors;
     private int vNum;
 
     public GCASolution(int vNum) {
@@ -26,6 +26,28 @@ public class GCASolution {
         colors.get(c).add(v);
     }
 
+    /**
+     * Remove vertex v from color c.
+     * @param v Vertex ID.
+     * @param c Color ID.
+     * @return true if v had color c.
+     */
+    public boolean unsetColor(int v, int c) {
+        return colors.get(c).remove(v);
+    }
+
+    /**
+     * Remove the empty colors at the end of the color list. Colors in the
+     * middle are kept so that color IDs do not change.
+     * @return number of colors left.
+     */
+    public Integer trimColors() {
+        while (!colors.isEmpty() && colors.get(colors.size() - 1).isEmpty()) {
+            colors.remove(colors.size() - 1);
+        }
+        return colors.size();
+    }
+
     /**
      * Add a new color to the solution.
      * @return new color ID.
@@ -43,6 +65,16 @@ public class GCASolution {
         return colors.size();
     }
 
+    /**
+     * Check whether vertex v is assigned to color c, without boxing.
+     * @param v Vertex ID.
+     * @param c Color ID.
+     * @return true if v has color c, false otherwise.
+     */
+    public boolean hasColor(int v, int c) {
+        return colors.get(c).contains(v);
+    }
+
     /**
      * Get a collection containing all vertices assigned to color c. 
      * @param c color ID.
@@ -58,19 +90,44 @@ public class GCASolution {
      * @return true if successful, false otherwise.
      */
     public Boolean writeSolution(String filePath) {
-        FileWriter writer;
-        try {
-            writer = new FileWriter(filePath);
+        return write(filePath, vNum, colors.size(), (c, dest) -> colors.get(c).toIntArray(dest));
+    }
+
+    /**
+     * Source of the vertices of every color, for write.
+     */
+    interface ColorVertices {
+        /**
+         * Copy the vertices of color c into dest in ascending order.
+         * @param c Color ID.
+         * @param dest Destination array, vNum long.
+         * @return The number of vertices copied.
+         */
+        int copy(int c, int[] dest);
+    }
 
-            writer.write(String.format("%d\n%d\n", vNum, colors.size()));
+    /**
+     * Write a solution file: the number of vertices, the number of colors,
+     * then one "color vertex" line per vertex, grouped by color. This is the
+     * only place the format is written; StreamingGCA uses it too.
+     * @param filePath Path to destination file.
+     * @param vNum Number of vertices.
+     * @param colorCount Number of colors.
+     * @param vertices The vertices of every color.
+     * @return true if successful, false otherwise.
+     */
+    static Boolean write(String filePath, int vNum, int colorCount, ColorVertices vertices) {
+        try (IntWriter writer = new IntWriter(filePath)) {
+            writer.writeLine(vNum);
+            writer.writeLine(colorCount);
 
-            for (int i = 0; i < colorNum(); i++) {
-                for (var vertex : getColorVertices(i)) {
-                    writer.write(String.format("%d %d\n", i, vertex));
+            int[] buffer = new int[vNum];
+            for (int c = 0; c < colorCount; c++) {
+                int count = vertices.copy(c, buffer);
+                for (int j = 0; j < count; j++) {
+                    writer.writeLine(c, buffer[j]);
                 }
             }
-
-            writer.close();
             return true;
         } catch (Exception e) {
             System.err.printf("Error: %s\n", e.getMessage());
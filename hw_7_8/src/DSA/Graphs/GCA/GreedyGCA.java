@@ -1,7 +1,6 @@
 package DSA.Graphs.GCA;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
 
 import DSA.Graphs.GTUGraph;
@@ -16,7 +15,7 @@ public class GreedyGCA {
      */
     private static class GreedyVertex implements Comparable<GreedyVertex> {
         private int id;
-        private Collection<Integer> neighbors;
+        private int degree;
 
         public GreedyVertex(int id) {
             this.id = id;
@@ -24,10 +23,10 @@ public class GreedyGCA {
 
         @Override
         public int compareTo(GreedyVertex o) {
-            if (this.neighbors.size() - o.neighbors.size() == 0) {
+            if (this.degree - o.degree == 0) {
                 return this.id - o.id;
             } else {
-                return this.neighbors.size() - o.neighbors.size();
+                return this.degree - o.degree;
             }
         }
 
@@ -35,12 +34,12 @@ public class GreedyGCA {
             return id;
         }
 
-        public void setNeighbors(Collection<Integer> neighbors) {
-            this.neighbors = neighbors;
+        public void setDegree(int degree) {
+            this.degree = degree;
         }
 
-        public Collection<Integer> getNeighbors() {
-            return neighbors;
+        public int getDegree() {
+            return degree;
         }
     }
 
@@ -51,41 +50,47 @@ public class GreedyGCA {
      * @return A graph coloring solution.
      */
     public static GCASolution solve(GTUGraph graph, GTUSorter sorter) {
-        // Create a list of GreedyVertex instances.
+        // Create a list of GreedyVertex instances, in descending id order.
         GreedyVertex[] vertices = new GreedyVertex[graph.size()];
+        int maxDegree = 0;
         for (int i = 0; i < graph.size(); i++) {
-            var newVertex = new GreedyVertex(i);
-            newVertex.setNeighbors(graph.getNeighbors(i));
+            var newVertex = new GreedyVertex(graph.size() - 1 - i);
+            newVertex.setDegree(graph.degree(newVertex.getID()));
             vertices[i] = newVertex;
+            maxDegree = Math.max(maxDegree, newVertex.getDegree());
         }
 
-        // Sort the vertices.
-        sorter.sort(vertices, new Comparator<GreedyVertex>() {
-            @Override
-            public int compare(GreedyVertex arg0, GreedyVertex arg1) {
-                return arg1.compareTo(arg0);
-            }
-        });
+        // Sort the vertices by descending degree, then by descending id. A
+        // stable sorter only needs the degree as an int key, because the
+        // vertices already are in descending id order.
+        if (sorter.isStable()) {
+            final int keyBase = maxDegree;
+            sorter.sort(vertices, vertex -> keyBase - vertex.getDegree());
+        } else {
+            sorter.sort(vertices, new Comparator<GreedyVertex>() {
+                @Override
+                public int compare(GreedyVertex arg0, GreedyVertex arg1) {
+                    return arg1.compareTo(arg0);
+                }
+            });
+        }
 
-        // Iterate over each vertex, and assign it to the smallest available color.
+        // Iterate over each vertex, and assign it to the smallest color that none of its neighbors has.
         GCASolution solution = new GCASolution(graph.size());
-        Boolean isColored;
+        int[] colorOf = new int[graph.size()];
+        Arrays.fill(colorOf, -1);
+        int[] neighbors = new int[maxDegree];
+        FreeColorFinder finder = new FreeColorFinder(maxDegree + 1);
         for (GreedyVertex vertex : vertices) {
-            isColored = false;
-            for (int i = 0; i < solution.colorNum(); i++) {
-                // If the vertex's neighbors and the color's vertices are disjoint, assign the vertex to this color.
-                if (Collections.disjoint(solution.getColorVertices(i), vertex.getNeighbors())) {
-                    solution.setColor(vertex.getID(), i);
-                    isColored = true;
-                    break;
-                }
-            }
+            int neighborCount = graph.copyNeighbors(vertex.getID(), neighbors);
+            int color = finder.find(neighbors, neighborCount, colorOf);
 
             // Create a new color if no available color was found.
-            if (!isColored) {
-                Integer newColor = solution.addColor();
-                solution.setColor(vertex.getID(), newColor);
+            if (color == solution.colorNum()) {
+                solution.addColor();
             }
+            solution.setColor(vertex.getID(), color);
+            colorOf[vertex.getID()] = color;
         }
 
         return solution;
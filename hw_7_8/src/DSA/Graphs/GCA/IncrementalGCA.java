@@ -0,0 +1,192 @@
+package DSA.Graphs.GCA;
+
+import DSA.Graphs.GTUGraph;
+import DSA.Sorting.GTUSorter;
+import java.util.Arrays;
+
+/**
+ * Keeps a graph coloring up to date while edges are added and removed.
+ *
+ * Mutations are applied to the graph immediately, and the vertices whose
+ * constraints changed are queued: one endpoint of an added edge whose
+ * endpoints share a color, and both endpoints of a removed edge (which may
+ * now fit a lower color). repair() recolors only the queued vertices, each
+ * with the smallest color none of its neighbors uses, so the cost of a batch
+ * is proportional to the degrees of the touched vertices instead of the size
+ * of the graph.
+ *
+ * The solution is valid after every call to repair() or applyBatch(); in
+ * between, added edges may still connect two vertices of the same color.
+ */
+public class IncrementalGCA {
+
+    private final GTUGraph graph;
+    private final GCASolution solution;
+
+    /**
+     * Color of every vertex.
+     */
+    private final int[] colorOf;
+
+    /**
+     * Queued vertices, in the order they were queued.
+     */
+    private final int[] queue;
+    private int queueSize = 0;
+    private final boolean[] queued;
+
+    private final FreeColorFinder finder = new FreeColorFinder(16);
+    private int[] neighbors = new int[16];
+
+    /**
+     * Color the graph with GreedyGCA and start tracking it.
+     * @param graph The graph; must support removeEdge if edges are removed.
+     * @param sorter The sorter used for the initial coloring.
+     */
+    public IncrementalGCA(GTUGraph graph, GTUSorter sorter) {
+        this(graph, GreedyGCA.solve(graph, sorter));
+    }
+
+    /**
+     * Start tracking an existing coloring of the graph.
+     * @param graph The graph; must support removeEdge if edges are removed.
+     * @param initial A valid coloring of the graph, which is updated in place.
+     * @throws IllegalArgumentException if a vertex has no color.
+     */
+    public IncrementalGCA(GTUGraph graph, GCASolution initial) {
+        this.graph = graph;
+        this.solution = initial;
+        this.colorOf = new int[graph.size()];
+        this.queue = new int[graph.size()];
+        this.queued = new boolean[graph.size()];
+
+        Arrays.fill(colorOf, -1);
+        for (int c = 0; c < initial.colorNum(); c++) {
+            for (int v : initial.getColorVertices(c)) {
+                colorOf[v] = c;
+            }
+        }
+        for (int v = 0; v < colorOf.length; v++) {
+            if (colorOf[v] < 0) {
+                throw new IllegalArgumentException("Vertex " + v + " has no color");
+            }
+        }
+    }
+
+    /**
+     * Add an edge. If both endpoints have the same color, the endpoint with
+     * the lower degree is queued for recoloring.
+     * @param v1 First vertex ID.
+     * @param v2 Second vertex ID.
+     * @return true if the edge was added.
+     */
+    public boolean addEdge(int v1, int v2) {
+        if (!graph.setEdge(v1, v2)) {
+            return false;
+        }
+        if (colorOf[v1] == colorOf[v2]) {
+            enqueue(graph.degree(v1) <= graph.degree(v2) ? v1 : v2);
+        }
+        return true;
+    }
+
+    /**
+     * Remove an edge and queue both endpoints, which may fit a lower color.
+     * @param v1 First vertex ID.
+     * @param v2 Second vertex ID.
+     * @return true if the edge existed.
+     * @throws UnsupportedOperationException if the graph cannot remove edges.
+     */
+    public boolean removeEdge(int v1, int v2) {
+        if (!graph.removeEdge(v1, v2)) {
+            return false;
+        }
+        enqueue(v1);
+        enqueue(v2);
+        return true;
+    }
+
+    /**
+     * Recolor every queued vertex with the smallest color that none of its
+     * neighbors uses, then drop empty colors at the end of the color list.
+     * @return number of vertices whose color changed.
+     */
+    public int repair() {
+        int changed = 0;
+        for (int i = 0; i < queueSize; i++) {
+            int v = queue[i];
+            queued[v] = false;
+
+            int degree = graph.degree(v);
+            if (neighbors.length < degree) {
+                neighbors = new int[Math.max(degree, 2 * neighbors.length)];
+            }
+            int count = graph.copyNeighbors(v, neighbors);
+            int color = finder.find(neighbors, count, colorOf);
+            if (color == colorOf[v]) {
+                continue;
+            }
+
+            if (color == solution.colorNum()) {
+                solution.addColor();
+            }
+            solution.unsetColor(v, colorOf[v]);
+            solution.setColor(v, color);
+            colorOf[v] = color;
+            changed++;
+        }
+        queueSize = 0;
+        solution.trimColors();
+        return changed;
+    }
+
+    /**
+     * Apply a batch of mutations and repair the coloring.
+     * @param added Added edges as consecutive (v1, v2) pairs.
+     * @param addedCount Number of pairs in added.
+     * @param removed Removed edges as consecutive (v1, v2) pairs.
+     * @param removedCount Number of pairs in removed.
+     * @return number of vertices whose color changed.
+     */
+    public int applyBatch(int[] added, int addedCount, int[] removed, int removedCount) {
+        for (int i = 0; i < removedCount; i++) {
+            removeEdge(removed[2 * i], removed[2 * i + 1]);
+        }
+        for (int i = 0; i < addedCount; i++) {
+            addEdge(added[2 * i], added[2 * i + 1]);
+        }
+        return repair();
+    }
+
+    /**
+     * Get the color of a vertex.
+     * @param v Vertex ID.
+     * @return Color ID.
+     */
+    public int colorOf(int v) {
+        return colorOf[v];
+    }
+
+    /**
+     * Get the tracked solution. It is updated in place by repair().
+     * @return The solution.
+     */
+    public GCASolution getSolution() {
+        return solution;
+    }
+
+    /**
+     * Get the number of vertices waiting for repair().
+     * @return Number of queued vertices.
+     */
+    public int pendingCount() {
+        return queueSize;
+    }
+
+    private void enqueue(int v) {
+        if (!queued[v]) {
+            queued[v] = true;
+            queue[queueSize++] = v;
+        }
+    }
+}
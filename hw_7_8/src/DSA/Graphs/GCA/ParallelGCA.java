@@ -0,0 +1,234 @@
+package DSA.Graphs.GCA;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import DSA.Graphs.GTUGraph;
+
+/**
+ * A parallel graph coloring algorithm in the style of Jones and Plassmann.
+ * Every vertex gets a random priority. In each round, the uncolored vertices
+ * whose priority is higher than that of all their uncolored neighbors form an
+ * independent set; they are colored in parallel, each with the smallest color
+ * none of its neighbors has. Rounds repeat until every vertex is colored.
+ *
+ * The graph is only read during the parallel phases, so it must support
+ * concurrent reads once its size and degrees have been queried.
+ */
+public class ParallelGCA {
+    /**
+     * Number of vertices handled by one leaf task.
+     */
+    private static final int LEAF_SIZE = 1024;
+
+    /**
+     * The pool that runs the rounds.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Seed for the vertex priorities.
+     */
+    private final long seed;
+
+    /**
+     * Number of rounds used by the last call to solve.
+     */
+    private int rounds;
+
+    /**
+     * Creates a solver that runs on the common pool with a fixed seed.
+     */
+    public ParallelGCA() {
+        this(ForkJoinPool.commonPool(), 58);
+    }
+
+    /**
+     * Creates a solver.
+     * @param pool The pool that runs the rounds.
+     * @param seed Seed for the vertex priorities.
+     */
+    public ParallelGCA(ForkJoinPool pool, long seed) {
+        this.pool = pool;
+        this.seed = seed;
+        this.rounds = 0;
+    }
+
+    /**
+     * Get the number of rounds used by the last call to solve.
+     * @return number of rounds.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Return a graph coloring solution for the graph.
+     * @param graph The graph to be colored.
+     * @return A graph coloring solution.
+     */
+    public GCASolution solve(GTUGraph graph) {
+        int n = graph.size();
+
+        // Sequential pass: finish any lazy setup in the graph before the parallel reads.
+        for (int v = 0; v < n; v++) {
+            graph.degree(v);
+        }
+
+        int[] priority = new int[n];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int v = 0; v < n; v++) {
+            priority[v] = random.nextInt();
+        }
+
+        int[] colorOf = new int[n];
+        Arrays.fill(colorOf, -1);
+        boolean[] selected = new boolean[n];
+        int[] active = new int[n];
+        for (int v = 0; v < n; v++) {
+            active[v] = v;
+        }
+
+        int activeCount = n;
+        rounds = 0;
+        while (activeCount > 0) {
+            rounds++;
+            pool.invoke(new SelectTask(graph, priority, colorOf, selected, active, 0, activeCount));
+            pool.invoke(new ColorTask(graph, colorOf, selected, active, 0, activeCount));
+
+            // Keep only the vertices that are still uncolored.
+            int kept = 0;
+            for (int i = 0; i < activeCount; i++) {
+                if (colorOf[active[i]] < 0) {
+                    active[kept++] = active[i];
+                }
+            }
+            activeCount = kept;
+        }
+
+        GCASolution solution = new GCASolution(n);
+        for (int v = 0; v < n; v++) {
+            while (colorOf[v] >= solution.colorNum()) {
+                solution.addColor();
+            }
+            solution.setColor(v, colorOf[v]);
+        }
+        return solution;
+    }
+
+    /**
+     * Check whether u comes before v in the priority order. Ties between
+     * equal random priorities are broken by vertex ID so that the order is
+     * strict.
+     */
+    private static boolean higher(int[] priority, int u, int v) {
+        return priority[u] > priority[v] || (priority[u] == priority[v] && u > v);
+    }
+
+    /**
+     * Marks the active vertices that are local maxima among the uncolored
+     * vertices.
+     */
+    private static class SelectTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GTUGraph graph;
+        private final int[] priority;
+        private final int[] colorOf;
+        private final boolean[] selected;
+        private final int[] active;
+        private final int start;
+        private final int end;
+
+        SelectTask(GTUGraph graph, int[] priority, int[] colorOf, boolean[] selected,
+                int[] active, int start, int end) {
+            this.graph = graph;
+            this.priority = priority;
+            this.colorOf = colorOf;
+            this.selected = selected;
+            this.active = active;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > LEAF_SIZE) {
+                int mid = (start + end) >>> 1;
+                invokeAll(new SelectTask(graph, priority, colorOf, selected, active, start, mid),
+                        new SelectTask(graph, priority, colorOf, selected, active, mid, end));
+                return;
+            }
+
+            int[] neighbors = new int[16];
+            for (int i = start; i < end; i++) {
+                int v = active[i];
+                int degree = graph.degree(v);
+                if (neighbors.length < degree) {
+                    neighbors = new int[Math.max(degree, 2 * neighbors.length)];
+                }
+                int count = graph.copyNeighbors(v, neighbors);
+                boolean isMax = true;
+                for (int j = 0; j < count && isMax; j++) {
+                    int u = neighbors[j];
+                    if (colorOf[u] < 0 && higher(priority, u, v)) {
+                        isMax = false;
+                    }
+                }
+                selected[v] = isMax;
+            }
+        }
+    }
+
+    /**
+     * Colors the selected vertices. They form an independent set, so no two
+     * of them read or write each other's color.
+     */
+    private static class ColorTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GTUGraph graph;
+        private final int[] colorOf;
+        private final boolean[] selected;
+        private final int[] active;
+        private final int start;
+        private final int end;
+
+        ColorTask(GTUGraph graph, int[] colorOf, boolean[] selected, int[] active,
+                int start, int end) {
+            this.graph = graph;
+            this.colorOf = colorOf;
+            this.selected = selected;
+            this.active = active;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > LEAF_SIZE) {
+                int mid = (start + end) >>> 1;
+                invokeAll(new ColorTask(graph, colorOf, selected, active, start, mid),
+                        new ColorTask(graph, colorOf, selected, active, mid, end));
+                return;
+            }
+
+            int[] neighbors = new int[16];
+            FreeColorFinder finder = new FreeColorFinder(16);
+            for (int i = start; i < end; i++) {
+                int v = active[i];
+                if (selected[v]) {
+                    int degree = graph.degree(v);
+                    if (neighbors.length < degree) {
+                        neighbors = new int[Math.max(degree, 2 * neighbors.length)];
+                    }
+                    int count = graph.copyNeighbors(v, neighbors);
+                    colorOf[v] = finder.find(neighbors, count, colorOf);
+                    selected[v] = false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package DSA.Graphs.GCA;
+
+/**
+ * An indexed binary max-heap of uncolored vertices for DSaturGCA. Vertices are
+ * ordered by saturation degree, then by the number of uncolored neighbors,
+ * then by the lower ID. A position array makes every key update O(log n).
+ */
+class SaturationQueue {
+    /**
+     * Heap of vertex IDs.
+     */
+    private final int[] heap;
+
+    /**
+     * Position of every vertex in the heap, or -1 if it is not in the heap.
+     */
+    private final int[] position;
+
+    /**
+     * Number of distinct neighbor colors of every vertex.
+     */
+    private final int[] saturation;
+
+    /**
+     * Number of uncolored neighbors of every vertex.
+     */
+    private final int[] uncoloredDegree;
+
+    /**
+     * Number of vertices in the heap.
+     */
+    private int size;
+
+    /**
+     * Builds a queue that holds every vertex with saturation 0.
+     * @param degrees Degree of every vertex.
+     */
+    SaturationQueue(int[] degrees) {
+        int n = degrees.length;
+        this.heap = new int[n];
+        this.position = new int[n];
+        this.saturation = new int[n];
+        this.uncoloredDegree = degrees.clone();
+        this.size = n;
+
+        for (int v = 0; v < n; v++) {
+            heap[v] = v;
+            position[v] = v;
+        }
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Check whether the queue is empty.
+     * @return true if no vertex is left.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove and return the vertex with the highest priority.
+     * @return Vertex ID.
+     */
+    int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Record that a neighbor of v was colored.
+     * @param v Uncolored vertex ID.
+     * @param newColor true if the neighbor's color is new among v's neighbors.
+     */
+    void neighborColored(int v, boolean newColor) {
+        uncoloredDegree[v]--;
+        if (newColor) {
+            saturation[v]++;
+        }
+        int i = position[v];
+        siftUp(i);
+        if (position[v] == i) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Check whether v is still waiting to be colored.
+     * @param v Vertex ID.
+     * @return true if v is in the queue.
+     */
+    boolean contains(int v) {
+        return position[v] >= 0;
+    }
+
+    /**
+     * Compare the priorities of two vertices.
+     * @return true if a comes before b.
+     */
+    private boolean before(int a, int b) {
+        if (saturation[a] != saturation[b]) {
+            return saturation[a] > saturation[b];
+        }
+        if (uncoloredDegree[a] != uncoloredDegree[b]) {
+            return uncoloredDegree[a] > uncoloredDegree[b];
+        }
+        return a < b;
+    }
+
+    private void siftUp(int i) {
+        int v = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(v, heap[parent])) {
+                break;
+            }
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+    private void siftDown(int i) {
+        int v = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], v)) {
+                break;
+            }
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+}
@@ -0,0 +1,382 @@
+package DSA.Graphs.GCA;
+
+import DSA.Graphs.EdgeListParser;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A graph coloring algorithm for edge files that do not fit in memory. The
+ * graph is never built: the edge list is read again on every pass, and only
+ * per-vertex state is kept (a color, a 64-color window with a mask of the
+ * colors seen in it, and two bits), about 16 bytes per vertex no matter how
+ * many edges the file has.
+ *
+ * The first pass is an online first-fit: every vertex starts with color 0,
+ * and when an edge joins two vertices of the same color, the endpoint with
+ * the lower priority moves to the smallest color none of the neighbors seen
+ * so far had. Neighbors seen earlier may change color later, so this can
+ * leave conflicts, which are repaired in rounds of two passes:
+ * <ol>
+ * <li>Every edge whose endpoints share a color marks its lower-priority
+ * endpoint as conflicted. If there are none, the coloring is valid.</li>
+ * <li>Every conflicted vertex collects the colors of its neighbors that fall
+ * in its window. When two conflicted vertices are adjacent, the one with the
+ * lower priority is blocked until the next round, so the vertices recolored
+ * in a round are independent. At the end of the pass, each unblocked
+ * conflicted vertex takes the smallest color that is free in its window; a
+ * vertex whose window is full moves its window up by 64 colors and tries
+ * again in the next round.</li>
+ * </ol>
+ * Priorities come from a hash of the vertex ID, so the conflicted vertex
+ * with the highest priority is never blocked and every round makes progress.
+ *
+ * The coloring usually needs more colors than GreedyGCA, but memory only
+ * grows with the number of vertices.
+ */
+public class StreamingGCA {
+
+    /**
+     * Number of colors in a window.
+     */
+    private static final int WINDOW = Long.SIZE;
+
+    private final EdgeListParser parser;
+    private final long seed;
+
+    private int size;
+
+    /**
+     * Size read by the current pass, checked against size after the pass.
+     */
+    private int passSize;
+
+    private int[] colorOf;
+
+    /**
+     * First color of the window of every vertex.
+     */
+    private int[] windowBase;
+
+    /**
+     * Colors in the window of every vertex that are used by a neighbor: bit
+     * i stands for color windowBase + i.
+     */
+    private long[] used;
+
+    private long[] conflicted;
+    private long[] blocked;
+
+    /**
+     * Number of passes over the file made by the last call to solve.
+     */
+    private int passes;
+
+    /**
+     * Creates a solver with the default parser and a fixed seed.
+     */
+    public StreamingGCA() {
+        this(new EdgeListParser(), 58);
+    }
+
+    /**
+     * Creates a solver.
+     * @param parser The parser that reads the edge file on every pass.
+     * @param seed Seed for the vertex priorities.
+     */
+    public StreamingGCA(EdgeListParser parser, long seed) {
+        this.parser = parser;
+        this.seed = seed;
+        this.passes = 0;
+    }
+
+    /**
+     * Get the number of passes over the file made by the last call to solve.
+     * @return number of passes.
+     */
+    public int getPasses() {
+        return passes;
+    }
+
+    /**
+     * Color the graph stored in an edge file, in the format read by
+     * GTUGraph.readGraph. Self-loops and edges with an endpoint out of range
+     * are ignored.
+     * @param filePath Path to the edge file.
+     * @return The color of every vertex. Colors are numbered 0, 1, ... without
+     * gaps, in the order of their first use.
+     * @throws IOException if the file cannot be read, is malformed, or changes
+     * size between passes.
+     */
+    public int[] solve(String filePath) throws IOException {
+        passes = 0;
+        size = -1;
+        parse(filePath, new FirstFitPass());
+
+        while (true) {
+            Arrays.fill(conflicted, 0);
+            ConflictPass conflicts = new ConflictPass();
+            parse(filePath, conflicts);
+            if (conflicts.count == 0) {
+                break;
+            }
+
+            Arrays.fill(blocked, 0);
+            for (int v = 0; v < size; v++) {
+                if (isSet(conflicted, v)) {
+                    used[v] = 0;
+                }
+            }
+            parse(filePath, new RecolorPass());
+
+            for (int v = 0; v < size; v++) {
+                if (isSet(conflicted, v) && !isSet(blocked, v)) {
+                    if (used[v] == -1L) {
+                        windowBase[v] += WINDOW;
+                    } else {
+                        colorOf[v] = windowBase[v] + Long.numberOfTrailingZeros(~used[v]);
+                    }
+                }
+            }
+        }
+
+        int[] result = renumber(colorOf);
+        colorOf = null;
+        windowBase = null;
+        used = null;
+        conflicted = null;
+        blocked = null;
+        return result;
+    }
+
+    /**
+     * Build a GCASolution from the colors returned by solve.
+     * @param colorOf The color of every vertex, numbered without gaps.
+     * @return The solution.
+     */
+    public static GCASolution toSolution(int[] colorOf) {
+        GCASolution solution = new GCASolution(colorOf.length);
+        for (int v = 0; v < colorOf.length; v++) {
+            while (colorOf[v] >= solution.colorNum()) {
+                solution.addColor();
+            }
+            solution.setColor(v, colorOf[v]);
+        }
+        return solution;
+    }
+
+    /**
+     * Write the colors returned by solve with the writer of
+     * GCASolution.writeSolution, without building a GCASolution.
+     * @param filePath Path to destination file.
+     * @param colorOf The color of every vertex, numbered without gaps.
+     * @return true if successful, false otherwise.
+     */
+    public static Boolean writeSolution(String filePath, int[] colorOf) {
+        int colors = 0;
+        for (int c : colorOf) {
+            colors = Math.max(colors, c + 1);
+        }
+
+        // Group the vertices by color; within a color they stay in ascending order.
+        int[] starts = new int[colors + 1];
+        for (int c : colorOf) {
+            starts[c + 1]++;
+        }
+        for (int c = 0; c < colors; c++) {
+            starts[c + 1] += starts[c];
+        }
+        int[] vertices = new int[colorOf.length];
+        int[] fill = Arrays.copyOf(starts, colors);
+        for (int v = 0; v < colorOf.length; v++) {
+            vertices[fill[colorOf[v]]++] = v;
+        }
+
+        return GCASolution.write(filePath, colorOf.length, colors, (c, dest) -> {
+            int count = starts[c + 1] - starts[c];
+            System.arraycopy(vertices, starts[c], dest, 0, count);
+            return count;
+        });
+    }
+
+    /**
+     * Read the file once, feeding its edges to the pass.
+     */
+    private void parse(String filePath, EdgeListParser.Sink pass) throws IOException {
+        parser.parse(filePath, pass);
+        passes++;
+        if (passSize != size) {
+            throw new IOException("Graph size changed between passes: " + passSize);
+        }
+    }
+
+    /**
+     * Set up the per-vertex state on the first pass. Later passes only
+     * record their size; edges out of the first size are ignored until
+     * parse() reports the mismatch.
+     */
+    private void begin(int newSize) {
+        passSize = newSize;
+        if (size >= 0) {
+            return;
+        }
+        size = newSize;
+        colorOf = new int[size];
+        windowBase = new int[size];
+        used = new long[size];
+        conflicted = new long[(size + 63) >>> 6];
+        blocked = new long[(size + 63) >>> 6];
+    }
+
+    private boolean valid(int v1, int v2) {
+        return v1 >= 0 && v1 < size && v2 >= 0 && v2 < size && v1 != v2;
+    }
+
+    /**
+     * Check whether u comes before v in the priority order. The priority is a
+     * hash of the vertex ID; ties are broken by the ID.
+     */
+    private boolean higher(int u, int v) {
+        long hu = mix(u ^ seed);
+        long hv = mix(v ^ seed);
+        return hu > hv || (hu == hv && u > v);
+    }
+
+    /**
+     * The SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Record that vertex v has a neighbor of color c, if c is in its window.
+     */
+    private void markUsed(int v, int c) {
+        int offset = c - windowBase[v];
+        if (offset >= 0 && offset < WINDOW) {
+            used[v] |= 1L << offset;
+        }
+    }
+
+    private static boolean isSet(long[] bits, int v) {
+        return (bits[v >>> 6] & (1L << v)) != 0;
+    }
+
+    private static void set(long[] bits, int v) {
+        bits[v >>> 6] |= 1L << v;
+    }
+
+    /**
+     * Renumber the colors without gaps, in the order of first use.
+     */
+    private static int[] renumber(int[] colorOf) {
+        int[] result = new int[colorOf.length];
+        int maxColor = -1;
+        for (int c : colorOf) {
+            maxColor = Math.max(maxColor, c);
+        }
+        int[] newColor = new int[maxColor + 1];
+        Arrays.fill(newColor, -1);
+        int colors = 0;
+        for (int v = 0; v < colorOf.length; v++) {
+            if (newColor[colorOf[v]] < 0) {
+                newColor[colorOf[v]] = colors++;
+            }
+            result[v] = newColor[colorOf[v]];
+        }
+        return result;
+    }
+
+    /**
+     * Online first-fit over the edges in file order.
+     */
+    private class FirstFitPass implements EdgeListParser.Sink {
+        @Override
+        public void begin(int size) {
+            StreamingGCA.this.begin(size);
+        }
+
+        @Override
+        public void edges(int[] edges, int edgeCount) {
+            for (int i = 0; i < edgeCount; i++) {
+                int u = edges[2 * i];
+                int v = edges[2 * i + 1];
+                if (!valid(u, v)) {
+                    continue;
+                }
+
+                if (colorOf[u] == colorOf[v]) {
+                    int loser = higher(u, v) ? v : u;
+                    markUsed(loser, colorOf[loser]);
+                    if (used[loser] == -1L) {
+                        windowBase[loser] += WINDOW;
+                        used[loser] = 0;
+                    }
+                    colorOf[loser] = windowBase[loser] + Long.numberOfTrailingZeros(~used[loser]);
+                }
+                markUsed(u, colorOf[v]);
+                markUsed(v, colorOf[u]);
+            }
+        }
+    }
+
+    /**
+     * Marks the lower-priority endpoint of every monochromatic edge.
+     */
+    private class ConflictPass implements EdgeListParser.Sink {
+        private long count = 0;
+
+        @Override
+        public void begin(int size) {
+            StreamingGCA.this.begin(size);
+        }
+
+        @Override
+        public void edges(int[] edges, int edgeCount) {
+            for (int i = 0; i < edgeCount; i++) {
+                int u = edges[2 * i];
+                int v = edges[2 * i + 1];
+                if (valid(u, v) && colorOf[u] == colorOf[v]) {
+                    set(conflicted, higher(u, v) ? v : u);
+                    count++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the neighbor colors of the conflicted vertices and blocks the
+     * lower-priority one of every pair of adjacent conflicted vertices.
+     */
+    private class RecolorPass implements EdgeListParser.Sink {
+        @Override
+        public void begin(int size) {
+            StreamingGCA.this.begin(size);
+        }
+
+        @Override
+        public void edges(int[] edges, int edgeCount) {
+            for (int i = 0; i < edgeCount; i++) {
+                int u = edges[2 * i];
+                int v = edges[2 * i + 1];
+                if (!valid(u, v)) {
+                    continue;
+                }
+
+                boolean conflictedU = isSet(conflicted, u);
+                boolean conflictedV = isSet(conflicted, v);
+                if (conflictedU) {
+                    markUsed(u, colorOf[v]);
+                }
+                if (conflictedV) {
+                    markUsed(v, colorOf[u]);
+                }
+                if (conflictedU && conflictedV) {
+                    set(blocked, higher(u, v) ? v : u);
+                }
+            }
+        }
+    }
+}
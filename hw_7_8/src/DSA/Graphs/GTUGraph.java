@@ -1,9 +1,9 @@
 package DSA.Graphs;
 
-import java.io.File;
-import java.io.FileWriter;
+import DSA.IO.IntWriter;
 import java.util.Collection;
-import java.util.Scanner;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 
 /**
@@ -17,6 +17,30 @@ public interface GTUGraph {
      */
     Boolean setEdge(int v1, int v2);
 
+    /**
+     * Adds a batch of edges. Implementations that build their storage in
+     * bulk should override this; the default calls setEdge for each pair.
+     * @param edges Edges as consecutive (v1, v2) pairs.
+     * @param edgeCount Number of pairs to read from edges.
+     */
+    default void setEdges(int[] edges, int edgeCount) {
+        for (int i = 0; i < edgeCount; i++) {
+            setEdge(edges[2 * i], edges[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Removes the edge between vertices v1 and v2. Graphs that only grow do
+     * not support this; the default throws.
+     * @param v1 First vertex ID.
+     * @param v2 Second vertex ID.
+     * @return True if the edge existed, false otherwise.
+     * @throws UnsupportedOperationException if the graph cannot remove edges.
+     */
+    default Boolean removeEdge(int v1, int v2) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support edge removal");
+    }
+
     /**
      * Checks if an edge exists between vertices v1 and v2.
      * @param v1 First vertex ID.
@@ -32,6 +56,64 @@ public interface GTUGraph {
      */
     Collection<Integer> getNeighbors(int v);
 
+    /**
+     * Call action once for every neighbor of vertex v, without boxing.
+     * Implementations should override this; the default walks getNeighbors.
+     * @param v Vertex ID.
+     * @param action Action to run for each neighbor ID.
+     */
+    default void forEachNeighbor(int v, IntConsumer action) {
+        for (Integer neighbor : getNeighbors(v)) {
+            action.accept(neighbor);
+        }
+    }
+
+    /**
+     * Find the first neighbor of vertex v, in the order forEachNeighbor visits
+     * them, for which predicate holds. The walk stops there, so a match near
+     * the start of the row costs little. Implementations should override this;
+     * the default walks getNeighbors.
+     * @param v Vertex ID.
+     * @param predicate Test to run on each neighbor ID.
+     * @return The first matching neighbor, or -1 if there is none.
+     */
+    default int findNeighbor(int v, IntPredicate predicate) {
+        for (Integer neighbor : getNeighbors(v)) {
+            if (predicate.test(neighbor)) {
+                return neighbor;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the number of neighbors of vertex v.
+     * @param v Vertex ID.
+     * @return Degree of the vertex.
+     */
+    default int degree(int v) {
+        return getNeighbors(v).size();
+    }
+
+    /**
+     * Copy the neighbors of vertex v into dest, starting at index 0.
+     * @param v Vertex ID.
+     * @param dest Destination array, at least degree(v) long.
+     * @return The number of neighbors copied.
+     * @throws IllegalArgumentException if dest is too small.
+     */
+    default int copyNeighbors(int v, int[] dest) {
+        Collection<Integer> neighbors = getNeighbors(v);
+        if (dest.length < neighbors.size()) {
+            throw new IllegalArgumentException("Destination array too small: " + dest.length);
+        }
+        int count = 0;
+        for (Integer neighbor : neighbors) {
+            dest[count++] = neighbor;
+        }
+        return count;
+    }
+
     /**
      * Size of the graph.
      * @return Size of the graph as an integer.
@@ -44,30 +126,46 @@ public interface GTUGraph {
      */
     void reset(int size);
 
+    /**
+     * Reset the graph and fill it from CSR arrays: the neighbors of vertex v
+     * are targets[offsets[v], offsets[v + 1]). Implementations backed by CSR
+     * arrays may adopt the arrays instead of copying them.
+     * @param size Number of vertices.
+     * @param offsets Row start indices, size + 1 entries.
+     * @param targets Concatenated neighbor lists.
+     */
+    default void reset(int size, int[] offsets, int[] targets) {
+        reset(size);
+        for (int v = 0; v < size; v++) {
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                if (v < targets[i]) {
+                    setEdge(v, targets[i]);
+                }
+            }
+        }
+    }
+
 
     /**
-     * Reinitialize graph using the information in the given file.
+     * Reinitialize graph using the information in the given file. The file is
+     * parsed in parallel by EdgeListParser and the edges are passed to the
+     * graph in batches, in file order.
      * @param filePath path to the file.
      * @param graph graph instance.
      */
     static void readGraph(String filePath, GTUGraph graph) {
         try {
-            File file = new File(filePath);
-            Scanner scanner = new Scanner(file);
-
-            Integer size = Integer.parseInt(scanner.nextLine().strip());
-            graph.reset(size);
-    
-            String line[];
-            while (scanner.hasNextLine()) {
-                line = scanner.nextLine().strip().split(" ");
-                Integer v1 = Integer.parseInt(line[0]);
-                Integer v2 = Integer.parseInt(line[1]);
-    
-                graph.setEdge(v1, v2);
-            }
-    
-            scanner.close();
+            new EdgeListParser().parse(filePath, new EdgeListParser.Sink() {
+                @Override
+                public void begin(int size) {
+                    graph.reset(size);
+                }
+
+                @Override
+                public void edges(int[] edges, int edgeCount) {
+                    graph.setEdges(edges, edgeCount);
+                }
+            });
         } catch (Exception e) {
             System.err.printf("Error: %s\n", e.getMessage());
             return;
@@ -76,29 +174,65 @@ public interface GTUGraph {
 
 
     /**
-     * Write the information of the given graph to a file.
+     * Reinitialize graph from a file in the binary format described by
+     * BinaryGraphFormat.
+     * @param filePath path to the file.
+     * @param graph graph instance.
+     */
+    static void readBinaryGraph(String filePath, GTUGraph graph) {
+        try {
+            BinaryGraphFormat.read(filePath, graph);
+        } catch (Exception e) {
+            System.err.printf("Error: %s\n", e.getMessage());
+            return;
+        }
+    }
+
+
+    /**
+     * Write the given graph to a file in the binary format described by
+     * BinaryGraphFormat.
      * @param filePath path to the file.
      * @param graph graph instance.
      */
-    static void writeGraph(String filePath, GTUGraph graph) {
+    static void writeBinaryGraph(String filePath, GTUGraph graph) {
         try {
-            File file = new File(filePath);
-            FileWriter writer = new FileWriter(file);
+            BinaryGraphFormat.write(filePath, graph);
+        } catch (Exception e) {
+            System.err.printf("Error: %s\n", e.getMessage());
+            return;
+        }
+    }
 
-            writer.write(Integer.toString(graph.size()) + "\n");
 
+    /**
+     * Write the information of the given graph to a file.
+     * @param filePath path to the file.
+     * @param graph graph instance.
+     * @return true if successful, false otherwise.
+     */
+    static Boolean writeGraph(String filePath, GTUGraph graph) {
+        try (IntWriter writer = new IntWriter(filePath)) {
+            writer.writeLine(graph.size());
+
+            int maxDegree = 0;
             for (int i = 0; i < graph.size(); i++) {
-                for (var vertex : graph.getNeighbors(i)) {
-                    if (i < vertex) {
-                        writer.write(String.format("%d %d\n", i, vertex));
+                maxDegree = Math.max(maxDegree, graph.degree(i));
+            }
+
+            int[] neighbors = new int[maxDegree];
+            for (int i = 0; i < graph.size(); i++) {
+                int count = graph.copyNeighbors(i, neighbors);
+                for (int j = 0; j < count; j++) {
+                    if (i < neighbors[j]) {
+                        writer.writeLine(i, neighbors[j]);
                     }
                 }
             }
-
-            writer.close();
+            return true;
         } catch (Exception e) {
             System.err.printf("Error: %s\n", e.getMessage());
-            return;
+            return false;
         }
     }
 }
@@ -1,12 +1,23 @@
 package DSA.Graphs.MatrixGraph;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 /**
  * AdjacencyVect is a collection that represents a vector-based adjacency list
- * for a graph. It allows for efficient storage and retrieval of vertices in a
- * graph using an array of boolean values.
+ * for a graph. It picks its representation by density: while few vertices are
+ * present they are kept in a sorted int array, so a row with three neighbors
+ * costs three ints and is scanned in three steps. Once the array would take
+ * more memory than a bitset of the full size (more than size / 32 elements),
+ * the row is promoted to a word-packed bitset, where each vertex costs a
+ * single bit and scans skip 64 absent vertices at a time. A row that shrinks
+ * to half of that threshold goes back to the sorted array.
+ *
+ * A new vector allocates no storage until the first vertex is added.
  *
  * This class implements the Collection interface, providing methods to add,
  * remove, and check for the presence of vertices, as well as to iterate over
@@ -15,11 +26,43 @@ import java.util.Iterator;
 public class AdjacencyVect implements Collection<Integer> {
 
     /**
-     * The vector that stores the presence of vertices in the graph. Each index
-     * represents a vertex, and the value at that index indicates whether the
-     * vertex is present (true) or not (false).
+     * Number of bits in a single word of the vector.
+     */
+    private static final int WORD_BITS = 64;
+
+    /**
+     * log2(WORD_BITS), used to turn an index into a word offset.
+     */
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * Sparse rows always hold at least this many elements before they are
+     * promoted, so small vectors do not switch back and forth.
+     */
+    private static final int MIN_DENSE = 8;
+
+    /**
+     * Shared storage of empty sparse vectors.
+     */
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * The sorted vertices of a sparse vector; the first elementCount entries
+     * are valid. Unused while the vector is dense.
+     */
+    private int[] elements = EMPTY;
+
+    /**
+     * The vector that stores the presence of vertices in the graph once it is
+     * dense, or null while it is sparse. Bit (index % 64) of word (index / 64)
+     * indicates whether the vertex is present (1) or not (0).
+     */
+    private long[] vector;
+
+    /**
+     * The number of vertices that can be represented by this vector.
      */
-    private boolean[] vector;
+    private int capacity;
 
     /**
      * The count of elements currently present in the adjacency vector. This is
@@ -34,10 +77,64 @@ public class AdjacencyVect implements Collection<Integer> {
      * @param size the number of vertices in the graph
      */
     public AdjacencyVect(int size) {
-        this.vector = new boolean[size];
+        this.capacity = size;
         this.elementCount = 0;
     }
 
+    /**
+     * Tells whether the vector currently uses the bitset representation.
+     *
+     * @return true if the vector is a bitset, false if it is a sorted array
+     */
+    public boolean isDense() {
+        return vector != null;
+    }
+
+    /**
+     * Largest number of elements kept in the sorted array: beyond size / 32
+     * elements the array takes more memory than the bitset.
+     */
+    private int denseThreshold() {
+        return Math.max(MIN_DENSE, capacity >>> 5);
+    }
+
+    /**
+     * Position of index in the sorted array, or (-(insertion point) - 1) if
+     * it is not present.
+     */
+    private int search(int index) {
+        return Arrays.binarySearch(elements, 0, elementCount, index);
+    }
+
+    /**
+     * Switches from the sorted array to the bitset.
+     *
+     * Complexity: O(n / 64 + k)
+     */
+    private void promote() {
+        long[] words = new long[(capacity + WORD_BITS - 1) >>> WORD_SHIFT];
+        for (int i = 0; i < elementCount; i++) {
+            words[elements[i] >>> WORD_SHIFT] |= 1L << elements[i];
+        }
+        vector = words;
+        elements = EMPTY;
+    }
+
+    /**
+     * Switches back to the sorted array if a dense vector has shrunk to half
+     * of the promotion threshold.
+     *
+     * Complexity: O(n / 64 + k) when it switches, O(1) otherwise.
+     */
+    private void demoteIfSparse() {
+        if (vector != null && elementCount <= denseThreshold() / 2) {
+            int[] sorted = elementCount == 0 ? EMPTY : new int[elementCount];
+            toIntArray(sorted);
+            elements = sorted;
+            vector = null;
+        }
+    }
+
     /**
      * Checks if the given index is valid for the current vector. An index is
      * valid if it is within the bounds of the vector's length.
@@ -46,14 +143,178 @@ public class AdjacencyVect implements Collection<Integer> {
      * @return true if the index is valid, false otherwise
      */
     private boolean isValidIndex(int index) {
-        return index >= 0 && index < vector.length;
+        return index >= 0 && index < capacity;
+    }
+
+    /**
+     * Returns the index of the first present vertex that is greater than or
+     * equal to the given index, or -1 if there is none. A sparse vector is
+     * binary searched. In a dense vector whole empty words are skipped and the
+     * position inside a word is found with a single numberOfTrailingZeros
+     * call.
+     *
+     * Complexity: O(log k) when sparse, O(n / 64) in the worst case when
+     * dense.
+     *
+     * @param from the index to start searching from
+     * @return the next present index, or -1 if there is none
+     */
+    public int nextSetBit(int from) {
+        if (from < 0) {
+            from = 0;
+        }
+        if (from >= capacity) {
+            return -1;
+        }
+        if (vector == null) {
+            int position = search(from);
+            if (position < 0) {
+                position = -position - 1;
+            }
+            return position < elementCount ? elements[position] : -1;
+        }
+
+        int wordIndex = from >>> WORD_SHIFT;
+        long word = vector[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == vector.length) {
+                return -1;
+            }
+            word = vector[wordIndex];
+        }
     }
 
     /**
-     * Returns the size of the adjacency vector. This is the number of vertices
-     * that can be represented in the graph.
+     * Calls action for every present vertex in ascending order, without boxing.
+     *
+     * Complexity: O(k) when sparse, O(n / 64 + k) when dense, where n is the
+     * size of the vector and k is the number of present vertices.
      *
-     * @return the size of the adjacency vector
+     * @param action the action to run for each present index
+     */
+    public void forEachInt(IntConsumer action) {
+        if (vector == null) {
+            for (int i = 0; i < elementCount; i++) {
+                action.accept(elements[i]);
+            }
+            return;
+        }
+        for (int wordIndex = 0; wordIndex < vector.length; wordIndex++) {
+            long word = vector[wordIndex];
+            while (word != 0) {
+                action.accept((wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the first present vertex, in ascending order, for which
+     * predicate holds, without boxing. The scan stops at the first match.
+     *
+     * Complexity: O(k) when sparse, O(n / 64 + k) when dense, in the worst
+     * case.
+     *
+     * @param predicate the test to run on each present index
+     * @return the first matching index, or -1 if there is none
+     */
+    public int findInt(IntPredicate predicate) {
+        if (vector == null) {
+            for (int i = 0; i < elementCount; i++) {
+                if (predicate.test(elements[i])) {
+                    return elements[i];
+                }
+            }
+            return -1;
+        }
+        for (int wordIndex = 0; wordIndex < vector.length; wordIndex++) {
+            long word = vector[wordIndex];
+            while (word != 0) {
+                int index = (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+                if (predicate.test(index)) {
+                    return index;
+                }
+                word &= word - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copies the present vertices into dest in ascending order, starting at
+     * index 0.
+     *
+     * Complexity: O(k) when sparse, O(n / 64 + k) when dense, where n is the
+     * size of the vector and k is the number of present vertices.
+     *
+     * @param dest the destination array, at least size() long
+     * @return the number of indices copied
+     * @throws IllegalArgumentException if dest is too small
+     */
+    public int toIntArray(int[] dest) {
+        if (dest.length < elementCount) {
+            throw new IllegalArgumentException("Destination array too small: " + dest.length);
+        }
+        if (vector == null) {
+            System.arraycopy(elements, 0, dest, 0, elementCount);
+            return elementCount;
+        }
+        int count = 0;
+        for (int wordIndex = 0; wordIndex < vector.length; wordIndex++) {
+            long word = vector[wordIndex];
+            while (word != 0) {
+                dest[count++] = (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if the adjacency vector contains the given index, without boxing.
+     *
+     * Complexity: O(log k) when sparse, O(1) when dense.
+     *
+     * @param index the index to check for presence
+     * @return true if the index is present, false otherwise
+     */
+    public boolean contains(int index) {
+        if (!isValidIndex(index)) {
+            return false;
+        }
+        if (vector == null) {
+            return search(index) >= 0;
+        }
+        return (vector[index >>> WORD_SHIFT] & (1L << index)) != 0;
+    }
+
+    /**
+     * Recomputes the element count of a dense vector from the population
+     * count of every word. Used after word-wise bulk operations.
+     *
+     * Complexity: O(n / 64), where n is the size of the vector.
+     */
+    private void recount() {
+        int count = 0;
+        for (long word : vector) {
+            count += Long.bitCount(word);
+        }
+        elementCount = count;
+    }
+
+    /**
+     * Adds a vertex to the adjacency vector. A sparse vector keeps its array
+     * sorted, so adding vertices in ascending order only appends; it is
+     * promoted to a bitset when it passes the density threshold.
+     *
+     * Complexity: O(1) when dense or when appending, O(k) otherwise.
+     *
+     * @param e the vertex to add
+     * @return true if the vertex was added, false if it was already present
+     * @throws IndexOutOfBoundsException if the vertex is out of range
      */
     @Override
     public boolean add(Integer e) {
@@ -61,8 +322,28 @@ public class AdjacencyVect implements Collection<Integer> {
             throw new IndexOutOfBoundsException("Index out of range: " + e);
         }
 
-        if (!vector[e]) {
-            vector[e] = true;
+        if (vector == null) {
+            int position = elementCount == 0 || elements[elementCount - 1] < e ? -elementCount - 1 : search(e);
+            if (position >= 0) {
+                return false;  // Element was already present
+            }
+            if (elementCount < denseThreshold()) {
+                position = -position - 1;
+                if (elementCount == elements.length) {
+                    elements = Arrays.copyOf(elements, Math.min(Math.max(4, 2 * elementCount), denseThreshold()));
+                }
+                System.arraycopy(elements, position, elements, position + 1, elementCount - position);
+                elements[position] = e;
+                elementCount++;
+                return true;
+            }
+            promote();
+        }
+
+        int wordIndex = e >>> WORD_SHIFT;
+        long mask = 1L << e;
+        if ((vector[wordIndex] & mask) == 0) {
+            vector[wordIndex] |= mask;
             elementCount++;
             return true;
         }
@@ -71,13 +352,24 @@ public class AdjacencyVect implements Collection<Integer> {
 
     /**
      * Adds all elements from the specified collection to the adjacency vector.
-     * If an element is already present, it will not be added again.
+     * If an element is already present, it will not be added again. When both
+     * vectors are dense and of the same size, the words are OR'ed together.
      *
      * @param c the collection of elements to add
      * @return true if any elements were added, false otherwise
      */
     @Override
     public boolean addAll(Collection<? extends Integer> c) { //! I asked to ai to implement this method(? extends Integer part actually)
+        if (vector != null && sameDenseShape(c)) {
+            long[] other = ((AdjacencyVect) c).vector;
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] |= other[i];
+            }
+            int oldCount = elementCount;
+            recount();
+            return elementCount != oldCount;
+        }
+
         boolean any_modified = false;
         for (Integer e : c) {
             if (add(e)) {
@@ -87,17 +379,25 @@ public class AdjacencyVect implements Collection<Integer> {
         return any_modified;
     }
 
+    /**
+     * Tells whether c is a dense AdjacencyVect of the same size, so that bulk
+     * operations can combine whole words.
+     */
+    private boolean sameDenseShape(Collection<?> c) {
+        return c instanceof AdjacencyVect && ((AdjacencyVect) c).vector != null
+                && ((AdjacencyVect) c).capacity == capacity;
+    }
+
     /**
      * Removes all elements from the adjacency vector, effectively clearing the
-     * graph. This method sets all values in the vector to false and resets the
-     * element count.
-     * Complexity: O(n), where n is the size of the vector.
+     * graph. The storage is released and the vector becomes an empty sparse
+     * vector.
+     * Complexity: O(1)
      */
     @Override
     public void clear() {
-        for (int i = 0; i < vector.length; i++) {
-            vector[i] = false;
-        }
+        vector = null;
+        elements = EMPTY;
         elementCount = 0;
     }
 
@@ -125,19 +425,14 @@ public class AdjacencyVect implements Collection<Integer> {
      * Checks if the adjacency vector is empty. This method returns true if no
      * vertices are present in the graph.
      * 
-     * Complexity: O(n), where n is the size of the vector, as it checks each
-     * element in the vector.
+     * Complexity: O(1), as the element count is kept up to date by every
+     * modifying operation.
      *
      * @return true if the adjacency vector is empty, false otherwise
      */
     @Override
     public boolean isEmpty() {
-        for (boolean b : vector) {
-            if (b) {
-                return false;
-            }
-        }
-        return true;
+        return elementCount == 0;
     }
 
     /**
@@ -145,37 +440,60 @@ public class AdjacencyVect implements Collection<Integer> {
      * iterator will only return indices of vertices that are present in the
      * graph.
      * 
-     * Complexity: O(n), where n is the size of the vector, as it may need to
-     * iterate through all elements to find the next one.
+     * Complexity: O(k) for a full iteration of a sparse vector, and
+     * O(n / 64 + k) for a dense one, where n is the size of the vector and k
+     * is the number of present vertices, since empty words are skipped as a
+     * whole.
      *
      * @return an iterator over the indices of present vertices
      */
     @Override
     public Iterator<Integer> iterator() {
+        if (vector == null) {
+            return new Iterator<Integer>() {
+                private int position = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return position < elementCount;
+                }
+
+                @Override
+                public Integer next() {
+                    if (position >= elementCount) {
+                        throw new NoSuchElementException();
+                    }
+                    return elements[position++];
+                }
+            };
+        }
         return new Iterator<Integer>() {
-            private int currentIndex = 0;
+            private int currentIndex = nextSetBit(0);
 
             @Override
             public boolean hasNext() {
-                while (currentIndex < vector.length && !vector[currentIndex]) {
-                    currentIndex++;
-                }
-                return currentIndex < vector.length;
+                return currentIndex >= 0;
             }
 
             @Override
             public Integer next() {
-                return currentIndex++;
+                if (currentIndex < 0) {
+                    throw new NoSuchElementException();
+                }
+                int result = currentIndex;
+                currentIndex = nextSetBit(currentIndex + 1);
+                return result;
             }
         };
     }
 
     /**
-     * Removes a specific element from the adjacency vector. This method sets
-     * the corresponding index in the vector to false and decrements the element
-     * count if the element was present.
+     * Removes a specific element from the adjacency vector. This method clears
+     * the corresponding bit (or array entry) and decrements the element count
+     * if the element was present.
      * 
-     * Complexity: O(1), as it directly accesses the index in the vector.
+     * Complexity: O(k) when sparse; O(1) when dense, except when the vector
+     * shrinks enough to switch back to the sorted array.
      *
      * @param o the element to remove
      * @return true if the element was removed, false otherwise
@@ -184,9 +502,20 @@ public class AdjacencyVect implements Collection<Integer> {
     public boolean remove(Object o) {
         if (o instanceof Integer) {
             int index = (Integer) o;
-            if (isValidIndex(index) && vector[index]) {
-                vector[index] = false;
+            if (!isValidIndex(index)) {
+                return false;
+            }
+            if (vector == null) {
+                int position = search(index);
+                if (position >= 0) {
+                    System.arraycopy(elements, position + 1, elements, position, elementCount - position - 1);
+                    elementCount--;
+                    return true;
+                }
+            } else if ((vector[index >>> WORD_SHIFT] & (1L << index)) != 0) {
+                vector[index >>> WORD_SHIFT] &= ~(1L << index);
                 elementCount--;
+                demoteIfSparse();
                 return true;
             }
         }
@@ -198,14 +527,26 @@ public class AdjacencyVect implements Collection<Integer> {
      * vector. This method iterates through the collection and removes each
      * element if it is present.
      * 
-     * Complexity: O(m * n), where m is the size of the collection and n is
-     * the size of the vector.
+     * Complexity: O(m) per removed element, where m is the size of the
+     * collection, or O(n / 64) when both vectors are dense and of the same
+     * size.
      *
      * @param c the collection of elements to remove
      * @return true if any elements were removed, false otherwise
      */
     @Override
     public boolean removeAll(Collection<?> c) {
+        if (vector != null && sameDenseShape(c)) {
+            long[] other = ((AdjacencyVect) c).vector;
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] &= ~other[i];
+            }
+            int oldCount = elementCount;
+            recount();
+            demoteIfSparse();
+            return elementCount != oldCount;
+        }
+
         boolean any_modified = false;
         for (Object o : c) {
             if (remove(o)) {
@@ -221,21 +562,46 @@ public class AdjacencyVect implements Collection<Integer> {
      * not present in the collection.
      * 
      * Complexity: O(n * m), where n is the size of the vector and m is the
-     * size of the collection.
+     * size of the collection, or O(n / 64) when both vectors are dense and of
+     * the same size.
      *
      * @param c the collection of elements to retain
      * @return true if any elements were removed, false otherwise
      */
     @Override
     public boolean retainAll(Collection<?> c) {
+        if (vector != null && sameDenseShape(c)) {
+            long[] other = ((AdjacencyVect) c).vector;
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] &= other[i];
+            }
+            int oldCount = elementCount;
+            recount();
+            demoteIfSparse();
+            return elementCount != oldCount;
+        }
+
+        if (vector == null) {
+            int kept = 0;
+            for (int i = 0; i < elementCount; i++) {
+                if (c.contains(elements[i])) {
+                    elements[kept++] = elements[i];
+                }
+            }
+            boolean any_modified = kept != elementCount;
+            elementCount = kept;
+            return any_modified;
+        }
+
         boolean any_modified = false;
-        for (int i = 0; i < vector.length; i++) {
-            if (vector[i] && !c.contains(i)) {
-                vector[i] = false;
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            if (!c.contains(i)) {
+                vector[i >>> WORD_SHIFT] &= ~(1L << i);
                 elementCount--;
                 any_modified = true;
             }
         }
+        demoteIfSparse();
         return any_modified;
     }
 
@@ -243,7 +609,9 @@ public class AdjacencyVect implements Collection<Integer> {
      * Returns the number of elements currently present in the adjacency vector.
      * This is the count of vertices that have been added to the graph.
      * 
-     * Complexity: O(1), as it simply returns the elementCount variable.
+     * Complexity: O(1), as it simply returns the elementCount variable. The
+     * count is kept in sync with the sorted array or the word popcounts of
+     * the vector.
      *
      * @return the number of elements in the adjacency vector
      */
@@ -256,21 +624,14 @@ public class AdjacencyVect implements Collection<Integer> {
      * Converts the adjacency vector to an array of Integer objects. The array
      * will contain the indices of all vertices that are present in the graph.
      * 
-     * Complexity: O(n), where n is the size of the vector, as it may need to
-     * iterate through all elements to find the next one.
+     * Complexity: O(k) when sparse, O(n / 64 + k) when dense, where n is the
+     * size of the vector and k is the number of present vertices.
      *
      * @return an array containing the indices of present vertices
      */
     @Override
     public Object[] toArray() {
-        Object[] array = new Object[elementCount];
-        int index = 0;
-        for (int i = 0; i < vector.length; i++) {
-            if (vector[i]) {
-                array[index++] = i;
-            }
-        }
-        return array;
+        return toArray(new Object[elementCount]);
     }
 
     /**
@@ -278,8 +639,8 @@ public class AdjacencyVect implements Collection<Integer> {
      * array will contain the indices of all vertices that are present in the
      * graph.
      * 
-     * Complexity: O(n), where n is the size of the vector, as it may need to
-     * iterate through all elements to find the next one.
+     * Complexity: O(k) when sparse, O(n / 64 + k) when dense, where n is the
+     * size of the vector and k is the number of present vertices.
      *
      * @param a the array to store the elements
      * @return an array containing the indices of present vertices, possibly of
@@ -292,21 +653,20 @@ public class AdjacencyVect implements Collection<Integer> {
             // If the provided array is not large enough, create a new one
             a = (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), elementCount);
         }
-        int index = 0;
-        for (int i = 0; i < vector.length; i++) {
-            if (vector[i]) {
-                a[index++] = (T) Integer.valueOf(i);
-            }
+        int[] present = new int[elementCount];
+        toIntArray(present);
+        for (int i = 0; i < present.length; i++) {
+            a[i] = (T) Integer.valueOf(present[i]);
         }
         return a;
     }
 
     /**
      * Checks if the adjacency vector contains a specific element. This method
-     * checks if the given index is valid and if the corresponding value in the
-     * vector is true.
+     * checks if the given index is valid and if it is present in the sorted
+     * array or the bitset.
      * 
-     * Complexity: O(1), as it directly accesses the index in the vector.
+     * Complexity: O(log k) when sparse, O(1) when dense.
      *
      * @param o the element to check for presence
      * @return true if the element is present, false otherwise
@@ -314,8 +674,7 @@ public class AdjacencyVect implements Collection<Integer> {
     @Override
     public boolean contains(Object o) {
         if (o instanceof Integer) {
-            int index = (Integer) o;
-            return isValidIndex(index) && vector[index];
+            return contains(((Integer) o).intValue());
         }
         return false;
     }
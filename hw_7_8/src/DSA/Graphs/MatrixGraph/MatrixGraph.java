@@ -2,10 +2,15 @@ package DSA.Graphs.MatrixGraph;
 
 import DSA.Graphs.GTUGraph;
 import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 /**
  * MatrixGraph class implements the GTUGraph interface. It uses an adjacency
- * matrix structure to store edge information.
+ * matrix structure to store edge information. Every row is an AdjacencyVect,
+ * which stays a sorted array while the vertex has few neighbors and becomes a
+ * bitset for hubs, so a graph of mostly low-degree vertices takes O(n + m)
+ * memory instead of n * n bits.
  */
 public class MatrixGraph implements GTUGraph {
 
@@ -71,12 +76,34 @@ public class MatrixGraph implements GTUGraph {
         return changed1 || changed2;
     }
 
+    /**
+     * Removes the edge between two vertices, in both directions.
+     *
+     * Complexity: O(1)
+     *
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return true if the edge existed, false if the vertices are out of
+     * bounds or if there was no edge.
+     */
+    @Override
+    public Boolean removeEdge(int v1, int v2) {
+        if (v1 < 0 || v1 >= numVertices || v2 < 0 || v2 >= numVertices) {
+            return false;
+        }
+
+        boolean changed1 = matrix[v1].remove(v2);
+        boolean changed2 = matrix[v2].remove(v1);
+        return changed1 || changed2;
+    }
+
     /**
      * gets an edge between two vertices in the graph. This method checks
      * whether an edge exists between vertex v1 and vertex v2 in the adjacency
      * matrix. If the edge exists, it returns true; otherwise, it returns false.
      *
-     * Complexity: O(1) for checking the existence of an edge.
+     * Complexity: O(log k) for a sparse row with k neighbors, O(1) for a
+     * dense row.
      *
      * @param v1 The first vertex
      * @param v2 The second vertex
@@ -113,6 +140,86 @@ public class MatrixGraph implements GTUGraph {
         return matrix[v];
     }
 
+    /**
+     * Calls action for every neighbor of vertex v in ascending order, reading
+     * the row directly instead of going through boxed Integers.
+     *
+     * Complexity: O(k) for a sparse row and O(n / 64 + k) for a dense row,
+     * where k is the number of neighbors of v.
+     *
+     * @param v The vertex index
+     * @param action The action to run for each neighbor
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public void forEachNeighbor(int v, IntConsumer action) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+
+        matrix[v].forEachInt(action);
+    }
+
+    /**
+     * Returns the first neighbor of vertex v, in ascending order, for which
+     * predicate holds, stopping at the first match.
+     *
+     * Complexity: O(k) for a sparse row and O(n / 64 + k) for a dense row in
+     * the worst case, where k is the number of neighbors of v.
+     *
+     * @param v The vertex index
+     * @param predicate The test to run on each neighbor
+     * @return The first matching neighbor, or -1 if there is none
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public int findNeighbor(int v, IntPredicate predicate) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+
+        return matrix[v].findInt(predicate);
+    }
+
+    /**
+     * Returns the number of neighbors of vertex v.
+     *
+     * Complexity: O(1)
+     *
+     * @param v The vertex index
+     * @return The degree of vertex v
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public int degree(int v) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+
+        return matrix[v].size();
+    }
+
+    /**
+     * Copies the neighbors of vertex v into dest in ascending order.
+     *
+     * Complexity: O(k) for a sparse row and O(n / 64 + k) for a dense row,
+     * where k is the number of neighbors of v.
+     *
+     * @param v The vertex index
+     * @param dest The destination array, at least degree(v) long
+     * @return The number of neighbors copied
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     * @throws IllegalArgumentException if dest is too small
+     */
+    @Override
+    public int copyNeighbors(int v, int[] dest) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+
+        return matrix[v].toIntArray(dest);
+    }
+
     /**
      * get size of the graph. This method returns the number of vertices in the
      * graph. It is useful for determining the size of the graph when iterating
@@ -130,7 +237,8 @@ public class MatrixGraph implements GTUGraph {
     /**
      * Resets the graph to a new size. This method initializes the graph with a
      * new number of vertices. It clears the existing adjacency matrix and
-     * creates a new one with the specified size. If the size is negative, it
+     * creates a new one with the specified size. The rows start empty and
+     * allocate storage only as edges are added. If the size is negative, it
      * throws an IllegalArgumentException.
      *
      * Complexity: O(n) where n is the new size, as it creates a new adjacency
@@ -0,0 +1,188 @@
+package DSA.Graphs.OffHeapGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * ChunkedBuffer is a little-endian block of off-heap memory that can be
+ * larger than 2 GiB. A ByteBuffer is indexed by int, so the block is split
+ * into chunks of 2^chunkShift bytes, each a direct or a mapped ByteBuffer.
+ * Values are addressed by element index; since the chunk size is a multiple
+ * of 8, no int or long value crosses a chunk boundary.
+ *
+ * Direct buffers count against the JVM's direct memory limit (by default the
+ * heap size) and are only freed by a garbage collection; when the limit is
+ * reached, the JDK runs System.gc() and waits. So only small buffers are
+ * direct: buffers of FILE_BACKED_BYTES or more are mapped from a temporary
+ * file in java.io.tmpdir, which is not counted against the limit and is
+ * deleted as soon as it is mapped. The operating system pages such a buffer
+ * in and out like any other file.
+ */
+final class ChunkedBuffer {
+
+    /**
+     * Default chunk size: 1 GiB.
+     */
+    static final int DEFAULT_CHUNK_SHIFT = 30;
+
+    /**
+     * Size from which a buffer is backed by a temporary file: 16 MiB.
+     */
+    static final long FILE_BACKED_BYTES = 1L << 24;
+
+    private final ByteBuffer[] chunks;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final long byteSize;
+
+    private ChunkedBuffer(ByteBuffer[] chunks, int chunkShift, long byteSize) {
+        this.chunks = chunks;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+        this.byteSize = byteSize;
+    }
+
+    /**
+     * Allocate zero-filled off-heap memory, file-backed if it is large.
+     * @param byteSize Size in bytes.
+     * @return The buffer.
+     * @throws UncheckedIOException if the temporary file cannot be created.
+     */
+    static ChunkedBuffer allocate(long byteSize) {
+        return allocate(byteSize, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Allocate zero-filled off-heap memory with the given chunk size,
+     * file-backed if it is large.
+     * @param byteSize Size in bytes.
+     * @param chunkShift log2 of the chunk size, at least 3 and at most 31.
+     * @return The buffer.
+     * @throws UncheckedIOException if the temporary file cannot be created.
+     */
+    static ChunkedBuffer allocate(long byteSize, int chunkShift) {
+        long chunkBytes = 1L << chunkShift;
+        ByteBuffer[] chunks = new ByteBuffer[(int) ((byteSize + chunkBytes - 1) >>> chunkShift)];
+        if (byteSize < FILE_BACKED_BYTES) {
+            for (int i = 0; i < chunks.length; i++) {
+                int size = (int) Math.min(chunkBytes, byteSize - i * chunkBytes);
+                chunks[i] = ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new ChunkedBuffer(chunks, chunkShift, byteSize);
+        }
+
+        // The file is deleted when the channel is closed; the mappings stay
+        // valid and the space is freed when they are collected.
+        try (FileChannel channel = FileChannel.open(Files.createTempFile("offheap", ".bin"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            for (int i = 0; i < chunks.length; i++) {
+                long size = Math.min(chunkBytes, byteSize - i * chunkBytes);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * chunkBytes, size)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create a file-backed buffer", e);
+        }
+        return new ChunkedBuffer(chunks, chunkShift, byteSize);
+    }
+
+    /**
+     * Allocate one zero-filled chunk of off-heap memory, file-backed if it is
+     * large.
+     * @param byteSize Size in bytes.
+     * @return The chunk, in little-endian order.
+     * @throws UncheckedIOException if the temporary file cannot be created.
+     */
+    static ByteBuffer allocateChunk(int byteSize) {
+        return allocate(byteSize, 31).chunks[0];
+    }
+
+    /**
+     * Map a region of a file read-only. The mapping stays valid after the
+     * channel is closed.
+     * @param channel Channel of the file.
+     * @param position Byte position of the region.
+     * @param byteSize Size of the region in bytes.
+     * @return The buffer.
+     * @throws IOException if the region cannot be mapped.
+     */
+    static ChunkedBuffer map(FileChannel channel, long position, long byteSize) throws IOException {
+        long chunkBytes = 1L << DEFAULT_CHUNK_SHIFT;
+        ByteBuffer[] chunks = new ByteBuffer[(int) ((byteSize + chunkBytes - 1) >>> DEFAULT_CHUNK_SHIFT)];
+        for (int i = 0; i < chunks.length; i++) {
+            long size = Math.min(chunkBytes, byteSize - i * chunkBytes);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + i * chunkBytes, size)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new ChunkedBuffer(chunks, DEFAULT_CHUNK_SHIFT, byteSize);
+    }
+
+    /**
+     * @return Size in bytes.
+     */
+    long byteSize() {
+        return byteSize;
+    }
+
+    int getInt(long index) {
+        long offset = index << 2;
+        return chunks[(int) (offset >>> chunkShift)].getInt((int) (offset & chunkMask));
+    }
+
+    void putInt(long index, int value) {
+        long offset = index << 2;
+        chunks[(int) (offset >>> chunkShift)].putInt((int) (offset & chunkMask), value);
+    }
+
+    long getLong(long index) {
+        long offset = index << 3;
+        return chunks[(int) (offset >>> chunkShift)].getLong((int) (offset & chunkMask));
+    }
+
+    void putLong(long index, long value) {
+        long offset = index << 3;
+        chunks[(int) (offset >>> chunkShift)].putLong((int) (offset & chunkMask), value);
+    }
+
+    /**
+     * Copy count ints starting at index into dest.
+     */
+    void getInts(long index, int[] dest, int destStart, int count) {
+        for (int i = 0; i < count; i++) {
+            dest[destStart + i] = getInt(index + i);
+        }
+    }
+
+    /**
+     * Copy count ints from src into the buffer starting at index.
+     */
+    void putInts(long index, int[] src, int srcStart, int count) {
+        for (int i = 0; i < count; i++) {
+            putInt(index + i, src[srcStart + i]);
+        }
+    }
+
+    /**
+     * Binary search for key among the sorted ints in [from, to).
+     * @return true if key is present.
+     */
+    boolean containsInt(long from, long to, int key) {
+        while (from < to) {
+            long mid = (from + to) >>> 1;
+            int value = getInt(mid);
+            if (value < key) {
+                from = mid + 1;
+            } else if (value > key) {
+                to = mid;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+}
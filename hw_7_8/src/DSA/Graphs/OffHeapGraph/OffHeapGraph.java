@@ -0,0 +1,522 @@
+package DSA.Graphs.OffHeapGraph;
+
+import DSA.Graphs.BinaryGraphFormat;
+import DSA.Graphs.GTUGraph;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * OffHeapGraph class implements the GTUGraph interface with CSR rows stored
+ * outside the Java heap. The neighbors of vertex v are stored, sorted, in
+ * targets[offsets[v], offsets[v + 1]), where offsets are int64 and targets
+ * are int32 values in direct or memory-mapped buffers. Only O(1) objects live
+ * on the heap, so garbage collection cost does not grow with the graph, and
+ * graphs with more than 2^31 targets are supported.
+ *
+ * A graph can be built with setEdge/setEdges (which is what readGraph uses):
+ * edges are collected in an off-heap pending list and compacted into the CSR
+ * rows in bulk the next time the graph is queried, as in CSRGraph. A binary
+ * graph file can also be mapped directly with map(), without copying; such a
+ * graph is read-only until it is reset.
+ *
+ * Small buffers are direct; large ones are mapped from deleted temporary
+ * files (see ChunkedBuffer), so a large graph does not need a larger
+ * -XX:MaxDirectMemorySize, and dropping the old rows on compaction or reset
+ * never makes the JDK wait for a garbage collection to free direct memory.
+ * The temporary files live in java.io.tmpdir, which needs room for the
+ * graph.
+ *
+ * The graph must not be queried from several threads until it has been
+ * compacted (see compact()).
+ */
+public class OffHeapGraph implements GTUGraph {
+
+    /**
+     * Size of the first pending edge chunk in bytes.
+     */
+    private static final int MIN_PENDING_CHUNK_BYTES = 1 << 16;
+
+    /**
+     * Size of the largest pending edge chunk in bytes.
+     */
+    private static final int MAX_PENDING_CHUNK_BYTES = 1 << 24;
+
+    /**
+     * The number of vertices in the graph.
+     */
+    private int numVertices;
+
+    /**
+     * Row start indices into targets, numVertices + 1 int64 values.
+     */
+    private ChunkedBuffer offsets;
+
+    /**
+     * Concatenated, sorted neighbor lists of all vertices, int32 values.
+     */
+    private ChunkedBuffer targets;
+
+    /**
+     * Edges that were added but not compacted yet, as (v1, v2) int32 pairs in
+     * chunks of growing size. Every chunk but the last one is full.
+     */
+    private ArrayList<ByteBuffer> pending;
+
+    /**
+     * The number of edges in the pending list.
+     */
+    private long pendingCount;
+
+    /**
+     * Whether the rows are mapped read-only from a file.
+     */
+    private boolean readOnly;
+
+    /**
+     * Default constructor that initializes the graph with zero vertices.
+     */
+    public OffHeapGraph() {
+        this(0);
+    }
+
+    /**
+     * Constructs an OffHeapGraph with the specified number of vertices and no
+     * edges.
+     *
+     * @param size The number of vertices in the graph
+     * @throws IllegalArgumentException if size is negative
+     *
+     * Time Complexity: O(n) where n is the size
+     */
+    public OffHeapGraph(int size) {
+        reset(size);
+    }
+
+    /**
+     * Maps a binary graph file (see BinaryGraphFormat) without copying it. The
+     * returned graph is read-only: setEdge and setEdges throw
+     * UnsupportedOperationException until the graph is reset.
+     *
+     * The row offsets are checked, so every row lies inside the targets. The
+     * targets themselves are trusted: checking them would read the whole
+     * file, which is what mapping avoids.
+     *
+     * Complexity: O(n) for the offsets; the pages of the targets are loaded
+     * by the operating system on access.
+     *
+     * @param filePath Path to the file
+     * @return The mapped graph
+     * @throws IOException if the file cannot be mapped or is not valid
+     */
+    public static OffHeapGraph map(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            BinaryGraphFormat.Header header = BinaryGraphFormat.readHeader(channel);
+            ChunkedBuffer offsets = ChunkedBuffer.map(channel, header.offsetsPosition(), 8L * (header.size + 1));
+            ChunkedBuffer targets = ChunkedBuffer.map(channel, header.targetsPosition(), 4L * header.targetCount);
+            if (offsets.getLong(0) != 0 || offsets.getLong(header.size) != header.targetCount) {
+                throw new IOException("Corrupt row offsets in " + filePath);
+            }
+            long previous = 0;
+            for (int v = 1; v < header.size; v++) {
+                long offset = offsets.getLong(v);
+                if (offset < previous || offset > header.targetCount) {
+                    throw new IOException("Corrupt row offset at vertex " + v);
+                }
+                previous = offset;
+            }
+
+            OffHeapGraph graph = new OffHeapGraph(0);
+            graph.numVertices = header.size;
+            graph.offsets = offsets;
+            graph.targets = targets;
+            graph.readOnly = true;
+            return graph;
+        }
+    }
+
+    /**
+     * Adds an edge between two vertices. The edge is appended to the pending
+     * edge list; it becomes part of the rows at the next compaction.
+     *
+     * Complexity: O(log d) amortized, for checking the compacted row of v1.
+     *
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return true if the edge was accepted, false if the vertices are out of
+     * bounds, equal, or if the edge already exists in the compacted graph.
+     * @throws UnsupportedOperationException if the graph is mapped read-only
+     */
+    @Override
+    public Boolean setEdge(int v1, int v2) {
+        checkWritable();
+        if (v1 < 0 || v1 >= numVertices || v2 < 0 || v2 >= numVertices || v1 == v2) {
+            return false;
+        }
+
+        if (targets.containsInt(offsets.getLong(v1), offsets.getLong(v1 + 1), v2)) {
+            return false;
+        }
+
+        appendPending(v1, v2);
+        return true;
+    }
+
+    /**
+     * Appends a batch of edges to the pending edge list without checking
+     * them one by one. Invalid and duplicate edges are dropped at the next
+     * compaction.
+     *
+     * Complexity: O(m) where m is the number of edges in the batch.
+     *
+     * @param edges Edges as consecutive (v1, v2) pairs
+     * @param edgeCount Number of pairs to read from edges
+     * @throws UnsupportedOperationException if the graph is mapped read-only
+     */
+    @Override
+    public void setEdges(int[] edges, int edgeCount) {
+        checkWritable();
+        for (int i = 0; i < edgeCount; i++) {
+            appendPending(edges[2 * i], edges[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Checks whether an edge exists between vertex v1 and vertex v2 with a
+     * binary search in the sorted row of v1.
+     *
+     * Complexity: O(log d) where d is the degree of v1.
+     *
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return true if the edge exists, false if the vertices are out of bounds
+     * or if the edge does not exist.
+     */
+    @Override
+    public Boolean getEdge(int v1, int v2) {
+        if (v1 < 0 || v1 >= numVertices || v2 < 0 || v2 >= numVertices) {
+            return false;
+        }
+        compact();
+
+        return targets.containsInt(offsets.getLong(v1), offsets.getLong(v1 + 1), v2);
+    }
+
+    /**
+     * Retrieves the neighbors of a given vertex as a read-only view over its
+     * off-heap row. No elements are copied.
+     *
+     * Complexity: O(1)
+     *
+     * @param v The vertex index for which to retrieve neighbors
+     * @return A collection of integers representing the neighbors of vertex v
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public Collection<Integer> getNeighbors(int v) {
+        checkVertex(v);
+        compact();
+
+        return new OffHeapRow(targets, offsets.getLong(v), offsets.getLong(v + 1));
+    }
+
+    /**
+     * Calls action for every neighbor of vertex v in ascending order.
+     *
+     * Complexity: O(k) where k is the number of neighbors of v.
+     *
+     * @param v The vertex index
+     * @param action The action to run for each neighbor
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public void forEachNeighbor(int v, IntConsumer action) {
+        checkVertex(v);
+        compact();
+
+        long end = offsets.getLong(v + 1);
+        for (long i = offsets.getLong(v); i < end; i++) {
+            action.accept(targets.getInt(i));
+        }
+    }
+
+    /**
+     * Returns the first neighbor of vertex v, in ascending order, for which
+     * predicate holds, stopping at the first match.
+     *
+     * Complexity: O(k) in the worst case, where k is the number of neighbors
+     * of v.
+     *
+     * @param v The vertex index
+     * @param predicate The test to run on each neighbor
+     * @return The first matching neighbor, or -1 if there is none
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public int findNeighbor(int v, IntPredicate predicate) {
+        checkVertex(v);
+        compact();
+
+        long end = offsets.getLong(v + 1);
+        for (long i = offsets.getLong(v); i < end; i++) {
+            int u = targets.getInt(i);
+            if (predicate.test(u)) {
+                return u;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of neighbors of vertex v.
+     *
+     * Complexity: O(1)
+     *
+     * @param v The vertex index
+     * @return The degree of vertex v
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public int degree(int v) {
+        checkVertex(v);
+        compact();
+
+        return (int) (offsets.getLong(v + 1) - offsets.getLong(v));
+    }
+
+    /**
+     * Copies the neighbors of vertex v into dest in ascending order.
+     *
+     * Complexity: O(k) where k is the number of neighbors of v.
+     *
+     * @param v The vertex index
+     * @param dest The destination array, at least degree(v) long
+     * @return The number of neighbors copied
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     * @throws IllegalArgumentException if dest is too small
+     */
+    @Override
+    public int copyNeighbors(int v, int[] dest) {
+        int count = degree(v);
+        if (dest.length < count) {
+            throw new IllegalArgumentException("Destination array too small: " + dest.length);
+        }
+
+        targets.getInts(offsets.getLong(v), dest, 0, count);
+        return count;
+    }
+
+    /**
+     * get size of the graph.
+     *
+     * Complexity: O(1)
+     *
+     * @return The number of vertices in the graph
+     */
+    @Override
+    public int size() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of stored targets, twice the number of edges.
+     *
+     * @return The number of targets
+     */
+    public long targetCount() {
+        compact();
+        return offsets.getLong(numVertices);
+    }
+
+    /**
+     * Whether the graph is mapped read-only from a file.
+     *
+     * @return true if setEdge and setEdges are not supported
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Resets the graph to a new size with no edges, in newly allocated
+     * off-heap memory. A mapped graph becomes writable.
+     *
+     * Complexity: O(n) where n is the new size.
+     *
+     * @param size The new number of vertices for the graph
+     * @throws IllegalArgumentException if size is negative
+     */
+    @Override
+    public void reset(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+
+        this.numVertices = size;
+        this.offsets = ChunkedBuffer.allocate(8L * (size + 1));
+        this.targets = ChunkedBuffer.allocate(0);
+        this.pending = new ArrayList<>();
+        this.pendingCount = 0;
+        this.readOnly = false;
+    }
+
+    /**
+     * Resets the graph to a copy of the given CSR arrays. Every row must be
+     * sorted in ascending order, free of duplicates, and the edges must be
+     * symmetric.
+     *
+     * Complexity: O(n + m)
+     *
+     * @param size The new number of vertices for the graph
+     * @param offsets Row start indices, size + 1 entries
+     * @param targets Concatenated neighbor lists
+     * @throws IllegalArgumentException if the arrays do not describe a graph
+     * of the given size
+     */
+    @Override
+    public void reset(int size, int[] offsets, int[] targets) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (offsets.length != size + 1 || offsets[0] != 0 || offsets[size] != targets.length) {
+            throw new IllegalArgumentException("Offsets do not match the graph size");
+        }
+
+        reset(size);
+        for (int v = 0; v <= size; v++) {
+            this.offsets.putLong(v, offsets[v]);
+        }
+        this.targets = ChunkedBuffer.allocate(4L * targets.length);
+        this.targets.putInts(0, targets, 0, targets.length);
+    }
+
+    /**
+     * Merges the pending edge list into the rows. Rows are rebuilt with a
+     * counting pass over the degrees, then every row is sorted and its
+     * duplicates are dropped. Calling this method when there are no pending
+     * edges does nothing.
+     *
+     * Complexity: O(n + m log d) where m is the number of stored edges and d
+     * is the maximum degree.
+     */
+    public void compact() {
+        if (pendingCount == 0) {
+            return;
+        }
+
+        // Count the new degree of every vertex, keeping only valid edges.
+        ChunkedBuffer newOffsets = ChunkedBuffer.allocate(8L * (numVertices + 1));
+        for (int v = 0; v < numVertices; v++) {
+            newOffsets.putLong(v + 1, offsets.getLong(v + 1) - offsets.getLong(v));
+        }
+        long remaining = pendingCount;
+        for (ByteBuffer chunk : pending) {
+            int count = (int) Math.min(remaining, chunk.capacity() / 8);
+            for (int i = 0; i < count; i++) {
+                int v1 = chunk.getInt(8 * i);
+                int v2 = chunk.getInt(8 * i + 4);
+                if (isValidEdge(v1, v2)) {
+                    newOffsets.putLong(v1 + 1, newOffsets.getLong(v1 + 1) + 1);
+                    newOffsets.putLong(v2 + 1, newOffsets.getLong(v2 + 1) + 1);
+                }
+            }
+            remaining -= count;
+        }
+        int maxRow = 0;
+        for (int v = 0; v < numVertices; v++) {
+            maxRow = (int) Math.max(maxRow, newOffsets.getLong(v + 1));
+            newOffsets.putLong(v + 1, newOffsets.getLong(v + 1) + newOffsets.getLong(v));
+        }
+
+        // Scatter the old rows and the pending edges into place.
+        ChunkedBuffer newTargets = ChunkedBuffer.allocate(4L * newOffsets.getLong(numVertices));
+        ChunkedBuffer fill = ChunkedBuffer.allocate(8L * numVertices);
+        for (int v = 0; v < numVertices; v++) {
+            long write = newOffsets.getLong(v);
+            long end = offsets.getLong(v + 1);
+            for (long i = offsets.getLong(v); i < end; i++) {
+                newTargets.putInt(write++, targets.getInt(i));
+            }
+            fill.putLong(v, write);
+        }
+        remaining = pendingCount;
+        for (ByteBuffer chunk : pending) {
+            int count = (int) Math.min(remaining, chunk.capacity() / 8);
+            for (int i = 0; i < count; i++) {
+                int v1 = chunk.getInt(8 * i);
+                int v2 = chunk.getInt(8 * i + 4);
+                if (isValidEdge(v1, v2)) {
+                    long position = fill.getLong(v1);
+                    newTargets.putInt(position, v2);
+                    fill.putLong(v1, position + 1);
+                    position = fill.getLong(v2);
+                    newTargets.putInt(position, v1);
+                    fill.putLong(v2, position + 1);
+                }
+            }
+            remaining -= count;
+        }
+        pending = new ArrayList<>();
+        pendingCount = 0;
+
+        // Sort every row on the heap and write it back without duplicates.
+        int[] row = new int[maxRow];
+        long write = 0;
+        long rowStart = 0;
+        for (int v = 0; v < numVertices; v++) {
+            long rowEnd = newOffsets.getLong(v + 1);
+            int length = (int) (rowEnd - rowStart);
+            newTargets.getInts(rowStart, row, 0, length);
+            Arrays.sort(row, 0, length);
+            newOffsets.putLong(v, write);
+            for (int i = 0; i < length; i++) {
+                if (i == 0 || row[i] != row[i - 1]) {
+                    newTargets.putInt(write++, row[i]);
+                }
+            }
+            rowStart = rowEnd;
+        }
+        newOffsets.putLong(numVertices, write);
+
+        this.offsets = newOffsets;
+        this.targets = newTargets;
+    }
+
+    /**
+     * Append one edge to the pending list, adding a chunk if the last one is
+     * full. Chunks double in size up to MAX_PENDING_CHUNK_BYTES.
+     */
+    private void appendPending(int v1, int v2) {
+        ByteBuffer last = pending.isEmpty() ? null : pending.get(pending.size() - 1);
+        if (last == null || !last.hasRemaining()) {
+            int bytes = last == null ? MIN_PENDING_CHUNK_BYTES : Math.min(2 * last.capacity(), MAX_PENDING_CHUNK_BYTES);
+            last = ChunkedBuffer.allocateChunk(bytes);
+            pending.add(last);
+        }
+        last.putInt(v1).putInt(v2);
+        pendingCount++;
+    }
+
+    private boolean isValidEdge(int v1, int v2) {
+        return v1 >= 0 && v1 < numVertices && v2 >= 0 && v2 < numVertices && v1 != v2;
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Graph is mapped read-only");
+        }
+    }
+}
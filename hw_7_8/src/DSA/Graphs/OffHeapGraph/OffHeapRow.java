@@ -0,0 +1,88 @@
+package DSA.Graphs.OffHeapGraph;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * OffHeapRow is a read-only view over the neighbors of a single vertex of an
+ * OffHeapGraph. Nothing is copied onto the heap; values are read from the
+ * off-heap targets as the view is iterated. The row is sorted in ascending
+ * order, so membership is answered with a binary search.
+ */
+public class OffHeapRow extends AbstractCollection<Integer> {
+
+    /**
+     * The targets of the graph this row belongs to.
+     */
+    private final ChunkedBuffer targets;
+
+    /**
+     * First index of the row in the targets (inclusive).
+     */
+    private final long start;
+
+    /**
+     * Last index of the row in the targets (exclusive).
+     */
+    private final long end;
+
+    OffHeapRow(ChunkedBuffer targets, long start, long end) {
+        this.targets = targets;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the number of neighbors in the row.
+     *
+     * Complexity: O(1)
+     *
+     * @return The degree of the vertex
+     */
+    @Override
+    public int size() {
+        return (int) (end - start);
+    }
+
+    /**
+     * Checks whether the row contains the given vertex.
+     *
+     * Complexity: O(log d) where d is the size of the row.
+     *
+     * @param o The vertex to look for
+     * @return true if o is an Integer in the row
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Integer)) {
+            return false;
+        }
+        return targets.containsInt(start, end, (Integer) o);
+    }
+
+    /**
+     * Returns an iterator over the row in ascending order.
+     *
+     * @return An iterator over the neighbors
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private long next = start;
+
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+
+            @Override
+            public Integer next() {
+                if (next >= end) {
+                    throw new NoSuchElementException();
+                }
+                return targets.getInt(next++);
+            }
+        };
+    }
+}
@@ -0,0 +1,268 @@
+package DSA.Graphs.Traversal;
+
+import DSA.Graphs.GTUGraph;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Direction-optimizing breadth-first search over any GTUGraph.
+ *
+ * While the frontier is small, levels are expanded top-down: every frontier
+ * vertex visits its neighbors. Once the frontier touches a large share of the
+ * unvisited edges, the search switches to bottom-up: every unvisited vertex
+ * looks for a parent in the frontier, which is kept as a bitset. The lookup
+ * goes through GTUGraph.findNeighbor, so a row is only read up to the first
+ * parent found. It switches back to top-down when the frontier shrinks again.
+ * On low-diameter graphs the bottom-up levels skip most of the edges a plain
+ * BFS would examine.
+ *
+ * The buffers, including the distance array, are kept between searches, so
+ * one instance can answer many reachability queries on the same graph without
+ * allocating; reachable() also stops as soon as the target is found.
+ * distances() returns a copy of the distance array. An instance must not be
+ * used by several threads at once.
+ */
+public class BreadthFirstSearch {
+
+    /**
+     * Switch to bottom-up when the edges out of the frontier exceed the
+     * unexplored edges divided by ALPHA.
+     */
+    public static final int ALPHA = 14;
+
+    /**
+     * Switch back to top-down when the frontier holds fewer than n / BETA
+     * vertices.
+     */
+    public static final int BETA = 24;
+
+    private final GTUGraph graph;
+
+    /**
+     * Vertices of the current and the next level, for top-down steps.
+     */
+    private int[] frontier;
+    private int[] next;
+
+    /**
+     * The current and the next level as bitsets, for bottom-up steps.
+     */
+    private long[] frontierBits;
+    private long[] nextBits;
+
+    private int[] neighbors;
+
+    /**
+     * Distance of every vertex found by the last search, -1 if not reached.
+     */
+    private final int[] distance;
+
+    /**
+     * Source array of single-source searches.
+     */
+    private final int[] single = new int[1];
+
+    /**
+     * Tells whether a vertex is in the current level, for bottom-up steps.
+     */
+    private final IntPredicate inFrontier = u -> (frontierBits[u >>> 6] & (1L << u)) != 0;
+
+    /**
+     * Number of levels of the last search that were expanded bottom-up.
+     */
+    private int bottomUpLevels;
+
+    /**
+     * Creates a search over the given graph. The graph must not change while
+     * it is being searched.
+     * @param graph The graph to search.
+     */
+    public BreadthFirstSearch(GTUGraph graph) {
+        this.graph = graph;
+        int n = graph.size();
+        this.frontier = new int[n];
+        this.next = new int[n];
+        this.frontierBits = new long[(n + 63) >>> 6];
+        this.nextBits = new long[(n + 63) >>> 6];
+        this.neighbors = new int[16];
+        this.distance = new int[n];
+    }
+
+    /**
+     * Compute the distance of every vertex from the source.
+     *
+     * Complexity: O(n + m) in the worst case.
+     *
+     * @param source The start vertex.
+     * @return Number of edges on a shortest path from source to every vertex,
+     * or -1 for vertices that cannot be reached.
+     * @throws IndexOutOfBoundsException if source is out of bounds.
+     */
+    public int[] distances(int source) {
+        single[0] = source;
+        return distances(single);
+    }
+
+    /**
+     * Compute the distance of every vertex from the nearest of the sources.
+     *
+     * Complexity: O(n + m) in the worst case.
+     *
+     * @param sources The start vertices.
+     * @return Number of edges on a shortest path from the nearest source to
+     * every vertex, or -1 for vertices that cannot be reached.
+     * @throws IndexOutOfBoundsException if a source is out of bounds.
+     */
+    public int[] distances(int[] sources) {
+        search(sources, -1);
+        return Arrays.copyOf(distance, distance.length);
+    }
+
+    /**
+     * Fill the distance array from the sources, level by level, stopping
+     * early once target has a distance.
+     * @param sources The start vertices.
+     * @param target Vertex to stop at, or -1 to search everything.
+     * @return true if target was reached.
+     */
+    private boolean search(int[] sources, int target) {
+        int n = graph.size();
+        Arrays.fill(distance, -1);
+
+        int frontierSize = 0;
+        long frontierEdges = 0;
+        long unexploredEdges = 0;
+        for (int v = 0; v < n; v++) {
+            unexploredEdges += graph.degree(v);
+        }
+        for (int source : sources) {
+            if (source < 0 || source >= n) {
+                throw new IndexOutOfBoundsException("Vertex index out of bounds: " + source);
+            }
+            if (distance[source] < 0) {
+                distance[source] = 0;
+                frontier[frontierSize++] = source;
+                frontierEdges += graph.degree(source);
+            }
+        }
+        if (target >= 0 && distance[target] == 0) {
+            return true;
+        }
+
+        bottomUpLevels = 0;
+        boolean bottomUp = false;
+        for (int level = 1; frontierSize > 0; level++) {
+            unexploredEdges -= frontierEdges;
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                toBits(frontier, frontierSize, frontierBits);
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < n / BETA) {
+                frontierSize = toList(frontierBits, frontier);
+                bottomUp = false;
+            }
+
+            int nextSize = 0;
+            long nextEdges = 0;
+            if (bottomUp) {
+                bottomUpLevels++;
+                Arrays.fill(nextBits, 0);
+                for (int v = 0; v < n; v++) {
+                    if (distance[v] >= 0) {
+                        continue;
+                    }
+                    if (graph.findNeighbor(v, inFrontier) >= 0) {
+                        distance[v] = level;
+                        if (v == target) {
+                            return true;
+                        }
+                        nextBits[v >>> 6] |= 1L << v;
+                        nextSize++;
+                        nextEdges += graph.degree(v);
+                    }
+                }
+                long[] swap = frontierBits;
+                frontierBits = nextBits;
+                nextBits = swap;
+            } else {
+                for (int i = 0; i < frontierSize; i++) {
+                    int count = copyNeighbors(frontier[i]);
+                    for (int j = 0; j < count; j++) {
+                        int u = neighbors[j];
+                        if (distance[u] < 0) {
+                            distance[u] = level;
+                            if (u == target) {
+                                return true;
+                            }
+                            next[nextSize++] = u;
+                            nextEdges += graph.degree(u);
+                        }
+                    }
+                }
+                int[] swap = frontier;
+                frontier = next;
+                next = swap;
+            }
+            frontierSize = nextSize;
+            frontierEdges = nextEdges;
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether target can be reached from source. The search stops as
+     * soon as target is found, and allocates nothing.
+     *
+     * Complexity: O(n + m) in the worst case.
+     *
+     * @param source The start vertex.
+     * @param target The vertex to reach.
+     * @return true if there is a path from source to target.
+     * @throws IndexOutOfBoundsException if a vertex is out of bounds.
+     */
+    public boolean reachable(int source, int target) {
+        if (target < 0 || target >= graph.size()) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + target);
+        }
+        single[0] = source;
+        return search(single, target);
+    }
+
+    /**
+     * Get the number of levels of the last search that were expanded
+     * bottom-up.
+     * @return Number of bottom-up levels.
+     */
+    public int getBottomUpLevels() {
+        return bottomUpLevels;
+    }
+
+    /**
+     * Copy the neighbors of v into the neighbor buffer, growing it if needed.
+     */
+    private int copyNeighbors(int v) {
+        int degree = graph.degree(v);
+        if (neighbors.length < degree) {
+            neighbors = new int[Math.max(degree, 2 * neighbors.length)];
+        }
+        return graph.copyNeighbors(v, neighbors);
+    }
+
+    private static void toBits(int[] list, int count, long[] bits) {
+        Arrays.fill(bits, 0);
+        for (int i = 0; i < count; i++) {
+            bits[list[i] >>> 6] |= 1L << list[i];
+        }
+    }
+
+    private static int toList(long[] bits, int[] list) {
+        int count = 0;
+        for (int wordIndex = 0; wordIndex < bits.length; wordIndex++) {
+            long word = bits[wordIndex];
+            while (word != 0) {
+                list[count++] = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,162 @@
+package DSA.Graphs.Traversal;
+
+import DSA.Graphs.GTUGraph;
+import java.util.Arrays;
+
+/**
+ * Connected components of a GTUGraph, found with a union-find (disjoint set)
+ * structure. Every edge is united once, using union by size and path halving,
+ * so the whole pass is O(n + m α(n)) and needs no traversal stack.
+ *
+ * Components are numbered 0, 1, ... in the order of their smallest vertex.
+ * The vertices of every component are stored contiguously and in ascending
+ * order, so a component can be handed to another algorithm as an int array.
+ */
+public class ConnectedComponents {
+
+    /**
+     * Component of every vertex.
+     */
+    private final int[] componentOf;
+
+    /**
+     * Vertices grouped by component: component c holds
+     * vertices[starts[c], starts[c + 1]).
+     */
+    private final int[] vertices;
+    private final int[] starts;
+
+    /**
+     * Find the connected components of the graph.
+     *
+     * Complexity: O(n + m α(n))
+     *
+     * @param graph The graph.
+     */
+    public ConnectedComponents(GTUGraph graph) {
+        int n = graph.size();
+        int[] parent = new int[n];
+        int[] size = new int[n];
+        for (int v = 0; v < n; v++) {
+            parent[v] = v;
+            size[v] = 1;
+        }
+
+        int[] neighbors = new int[16];
+        for (int v = 0; v < n; v++) {
+            int degree = graph.degree(v);
+            if (neighbors.length < degree) {
+                neighbors = new int[Math.max(degree, 2 * neighbors.length)];
+            }
+            int count = graph.copyNeighbors(v, neighbors);
+            for (int i = 0; i < count; i++) {
+                // Every edge is seen from both ends; unite it once.
+                if (neighbors[i] > v) {
+                    union(parent, size, v, neighbors[i]);
+                }
+            }
+        }
+
+        // Number the roots in order of their smallest vertex, then group the
+        // vertices with a counting pass.
+        componentOf = new int[n];
+        int[] label = size;  // The sizes are not needed any more.
+        Arrays.fill(label, -1);
+        int components = 0;
+        for (int v = 0; v < n; v++) {
+            int root = find(parent, v);
+            if (label[root] < 0) {
+                label[root] = components++;
+            }
+            componentOf[v] = label[root];
+        }
+
+        starts = new int[components + 1];
+        for (int v = 0; v < n; v++) {
+            starts[componentOf[v] + 1]++;
+        }
+        for (int c = 0; c < components; c++) {
+            starts[c + 1] += starts[c];
+        }
+        vertices = new int[n];
+        int[] fill = parent;  // Neither are the parents.
+        System.arraycopy(starts, 0, fill, 0, components);
+        for (int v = 0; v < n; v++) {
+            vertices[fill[componentOf[v]]++] = v;
+        }
+    }
+
+    /**
+     * Find the root of v, halving the path on the way.
+     */
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * Unite the sets of a and b, hanging the smaller tree under the larger.
+     */
+    private static void union(int[] parent, int[] size, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA == rootB) {
+            return;
+        }
+        if (size[rootA] < size[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+    }
+
+    /**
+     * Get the number of components.
+     * @return Number of components.
+     */
+    public int count() {
+        return starts.length - 1;
+    }
+
+    /**
+     * Get the component of a vertex.
+     * @param v Vertex ID.
+     * @return Component ID.
+     */
+    public int componentOf(int v) {
+        return componentOf[v];
+    }
+
+    /**
+     * Tells whether two vertices are in the same component.
+     * @param v1 First vertex ID.
+     * @param v2 Second vertex ID.
+     * @return true if there is a path between v1 and v2.
+     */
+    public boolean connected(int v1, int v2) {
+        return componentOf[v1] == componentOf[v2];
+    }
+
+    /**
+     * Get the number of vertices in a component.
+     * @param component Component ID.
+     * @return Number of vertices.
+     */
+    public int size(int component) {
+        return starts[component + 1] - starts[component];
+    }
+
+    /**
+     * Get the vertices of a component in ascending order.
+     * @param component Component ID.
+     * @return A new array with the vertices.
+     */
+    public int[] getVertices(int component) {
+        return Arrays.copyOfRange(vertices, starts[component], starts[component + 1]);
+    }
+}
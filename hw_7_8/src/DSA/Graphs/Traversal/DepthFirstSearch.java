@@ -0,0 +1,201 @@
+package DSA.Graphs.Traversal;
+
+import DSA.Graphs.GTUGraph;
+import java.util.Arrays;
+
+/**
+ * Iterative depth-first search over any GTUGraph.
+ *
+ * The search keeps its own stack instead of recursing, so path length is
+ * only limited by memory. Each stack frame is a vertex plus a cursor into a
+ * shared neighbor buffer: when a vertex is entered, its neighbors are copied
+ * once to the end of the buffer, and the frame walks them from there. The
+ * buffer never holds more than the neighbors of the vertices on the current
+ * path.
+ *
+ * Neighbors are visited in the order copyNeighbors returns them (ascending
+ * for the graphs in DSA.Graphs), so the preorder is the same as the one of a
+ * recursive DFS.
+ */
+public class DepthFirstSearch {
+
+    private final GTUGraph graph;
+
+    /**
+     * Parent of every visited vertex in the DFS forest, -1 for roots and for
+     * unvisited vertices.
+     */
+    private final int[] parent;
+
+    private final boolean[] visited;
+
+    /**
+     * Vertices in the order they were entered and left.
+     */
+    private final int[] preorder;
+    private final int[] postorder;
+    private int preorderSize = 0;
+    private int postorderSize = 0;
+
+    /**
+     * The stack: the vertex of each frame, and the cursor and the end of its
+     * neighbors in the neighbor buffer.
+     */
+    private final int[] stackVertex;
+    private final int[] stackCursor;
+    private final int[] stackEnd;
+
+    private int[] neighbors = new int[16];
+
+    /**
+     * Scratch row for copyNeighbors, which always writes from index 0.
+     */
+    private int[] row = new int[16];
+
+    /**
+     * Creates a search over the given graph. Every call to search() adds a
+     * tree to the same DFS forest; use reset() to start over.
+     * @param graph The graph to search. It must not change while it is being
+     * searched.
+     */
+    public DepthFirstSearch(GTUGraph graph) {
+        this.graph = graph;
+        int n = graph.size();
+        this.parent = new int[n];
+        this.visited = new boolean[n];
+        this.preorder = new int[n];
+        this.postorder = new int[n];
+        this.stackVertex = new int[n];
+        this.stackCursor = new int[n];
+        this.stackEnd = new int[n];
+        Arrays.fill(parent, -1);
+    }
+
+    /**
+     * Visit every vertex reachable from source that has not been visited by
+     * an earlier call.
+     *
+     * Complexity: O(k + e) where k and e are the vertices and edges reached.
+     *
+     * @param source The start vertex.
+     * @return Number of vertices visited by this call; 0 if source already was.
+     * @throws IndexOutOfBoundsException if source is out of bounds.
+     */
+    public int search(int source) {
+        if (source < 0 || source >= graph.size()) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + source);
+        }
+        if (visited[source]) {
+            return 0;
+        }
+
+        int start = preorderSize;
+        int top = 0;
+        int bufferEnd = push(source, 0, 0);
+        top++;
+        while (top > 0) {
+            int frame = top - 1;
+            if (stackCursor[frame] == stackEnd[frame]) {
+                // All neighbors are done: leave the vertex.
+                postorder[postorderSize++] = stackVertex[frame];
+                bufferEnd = frame == 0 ? 0 : stackEnd[frame - 1];
+                top--;
+                continue;
+            }
+
+            int u = neighbors[stackCursor[frame]++];
+            if (!visited[u]) {
+                parent[u] = stackVertex[frame];
+                bufferEnd = push(u, top, bufferEnd);
+                top++;
+            }
+        }
+        return preorderSize - start;
+    }
+
+    /**
+     * Visit every vertex of the graph, starting a new tree at the smallest
+     * unvisited vertex each time.
+     *
+     * Complexity: O(n + m)
+     *
+     * @return Number of trees added to the forest.
+     */
+    public int searchAll() {
+        int trees = 0;
+        for (int v = 0; v < graph.size(); v++) {
+            if (search(v) > 0) {
+                trees++;
+            }
+        }
+        return trees;
+    }
+
+    /**
+     * Enter vertex v: record it and push a frame whose neighbors start at
+     * bufferEnd. Returns the new end of the neighbor buffer.
+     */
+    private int push(int v, int frame, int bufferEnd) {
+        visited[v] = true;
+        preorder[preorderSize++] = v;
+
+        int degree = graph.degree(v);
+        if (neighbors.length < bufferEnd + degree) {
+            neighbors = Arrays.copyOf(neighbors, Math.max(bufferEnd + degree, 2 * neighbors.length));
+        }
+        if (row.length < degree) {
+            row = new int[Math.max(degree, 2 * row.length)];
+        }
+        int count = graph.copyNeighbors(v, row);
+        System.arraycopy(row, 0, neighbors, bufferEnd, count);
+
+        stackVertex[frame] = v;
+        stackCursor[frame] = bufferEnd;
+        stackEnd[frame] = bufferEnd + count;
+        return bufferEnd + count;
+    }
+
+    /**
+     * Tells whether a vertex has been visited.
+     * @param v Vertex ID.
+     * @return true if v has been visited.
+     */
+    public boolean visited(int v) {
+        return visited[v];
+    }
+
+    /**
+     * Get the parent of a vertex in the DFS forest.
+     * @param v Vertex ID.
+     * @return The parent, or -1 if v is a root or has not been visited.
+     */
+    public int getParent(int v) {
+        return parent[v];
+    }
+
+    /**
+     * Get the visited vertices in the order they were entered.
+     * @return A copy of the preorder.
+     */
+    public int[] getPreorder() {
+        return Arrays.copyOf(preorder, preorderSize);
+    }
+
+    /**
+     * Get the visited vertices in the order they were left.
+     * @return A copy of the postorder.
+     */
+    public int[] getPostorder() {
+        return Arrays.copyOf(postorder, postorderSize);
+    }
+
+    /**
+     * Forget all visited vertices.
+     */
+    public void reset() {
+        Arrays.fill(parent, -1);
+        Arrays.fill(visited, false);
+        preorderSize = 0;
+        postorderSize = 0;
+    }
+}
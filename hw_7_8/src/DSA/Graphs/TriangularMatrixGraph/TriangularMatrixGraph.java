@@ -0,0 +1,387 @@
+package DSA.Graphs.TriangularMatrixGraph;
+
+import DSA.Graphs.GTUGraph;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * TriangularMatrixGraph class implements the GTUGraph interface with an
+ * adjacency matrix that stores every undirected edge once. Only the strict
+ * upper triangle is kept, packed row after row into a single bit array:
+ * edge (i, j) with i &lt; j is bit rowStart(i) + (j - i - 1), where row i
+ * starts at bit i * (2n - i - 1) / 2. This takes n * (n - 1) / 2 bits, half
+ * of a full matrix, which suits dense graphs.
+ *
+ * The neighbors of v are the set bits of column v above the diagonal (the
+ * vertices u &lt; v) followed by the packed row of v (the vertices u &gt; v).
+ * The row is scanned a word at a time; the column is probed one bit per
+ * vertex. Degrees are kept in a separate array, so degree(v) is O(1).
+ */
+public class TriangularMatrixGraph implements GTUGraph {
+
+    /**
+     * Largest bit array this class allocates, in words.
+     */
+    private static final long MAX_WORDS = Integer.MAX_VALUE - 8;
+
+    /**
+     * log2 of the number of bits in a word.
+     */
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * The packed upper triangle. Bit (index % 64) of word (index / 64) is set
+     * if the edge with that bit index exists.
+     */
+    private long[] bits;
+
+    /**
+     * Number of neighbors of every vertex.
+     */
+    private int[] degrees;
+
+    /**
+     * The number of vertices in the graph.
+     */
+    private int numVertices;
+
+    /**
+     * Default constructor that initializes the graph with zero vertices.
+     */
+    public TriangularMatrixGraph() {
+        this(0);
+    }
+
+    /**
+     * Constructs a TriangularMatrixGraph with the specified number of
+     * vertices and no edges.
+     *
+     * @param size The number of vertices in the graph
+     * @throws IllegalArgumentException if size is negative or the triangle
+     * does not fit in a single array
+     *
+     * Time Complexity: O(n^2 / 128) where n is the size
+     */
+    public TriangularMatrixGraph(int size) {
+        reset(size);
+    }
+
+    /**
+     * Bit index of the first entry of row i, which holds the edges (i, j) for
+     * j &gt; i.
+     */
+    private long rowStart(int i) {
+        return (long) i * (2L * numVertices - i - 1) / 2;
+    }
+
+    /**
+     * Bit index of the edge between two distinct vertices.
+     */
+    private long bitIndex(int v1, int v2) {
+        int low = Math.min(v1, v2);
+        int high = Math.max(v1, v2);
+        return rowStart(low) + (high - low - 1);
+    }
+
+    private boolean testBit(long index) {
+        return (bits[(int) (index >>> WORD_SHIFT)] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the first set bit in [from, to), or -1 if there is none. Whole
+     * empty words are skipped.
+     */
+    private long nextSetBit(long from, long to) {
+        if (from >= to) {
+            return -1;
+        }
+
+        int wordIndex = (int) (from >>> WORD_SHIFT);
+        int lastWord = (int) ((to - 1) >>> WORD_SHIFT);
+        long word = bits[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                long index = ((long) wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+                return index < to ? index : -1;
+            }
+            if (++wordIndex > lastWord) {
+                return -1;
+            }
+            word = bits[wordIndex];
+        }
+    }
+
+    /**
+     * Returns the smallest neighbor of v that is greater than or equal to
+     * from, or -1 if there is none. Used by TriangularRow.
+     *
+     * Complexity: O(v - from) for the column part, O(n / 64) for the row.
+     */
+    int nextNeighbor(int v, int from) {
+        int u = Math.max(from, 0);
+        if (u < v) {
+            // Column v: bit (u, v) moves by n - u - 2 from one u to the next.
+            long index = rowStart(u) + (v - u - 1);
+            for (; u < v; u++) {
+                if (testBit(index)) {
+                    return u;
+                }
+                index += numVertices - u - 2;
+            }
+        }
+
+        u = Math.max(u, v + 1);
+        if (u >= numVertices) {
+            return -1;
+        }
+        // Row v: bit (v, u) is base + u.
+        long base = rowStart(v) - v - 1;
+        long index = nextSetBit(base + u, base + numVertices);
+        return index < 0 ? -1 : (int) (index - base);
+    }
+
+    /**
+     * sets an edge between two vertices in the graph. The edge is stored once,
+     * in the row of the smaller vertex.
+     *
+     * Complexity: O(1)
+     *
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return true if the edge was successfully added, false if the vertices
+     * are out of bounds, equal, or if the edge already exists.
+     */
+    @Override
+    public Boolean setEdge(int v1, int v2) {
+        if (v1 < 0 || v1 >= numVertices || v2 < 0 || v2 >= numVertices || v1 == v2) {
+            return false;
+        }
+
+        long index = bitIndex(v1, v2);
+        long mask = 1L << index;
+        int wordIndex = (int) (index >>> WORD_SHIFT);
+        if ((bits[wordIndex] & mask) != 0) {
+            return false;
+        }
+        bits[wordIndex] |= mask;
+        degrees[v1]++;
+        degrees[v2]++;
+        return true;
+    }
+
+    /**
+     * Removes the edge between two vertices.
+     *
+     * Complexity: O(1)
+     *
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return true if the edge existed, false if the vertices are out of
+     * bounds or if there was no edge.
+     */
+    @Override
+    public Boolean removeEdge(int v1, int v2) {
+        if (v1 < 0 || v1 >= numVertices || v2 < 0 || v2 >= numVertices || v1 == v2) {
+            return false;
+        }
+
+        long index = bitIndex(v1, v2);
+        long mask = 1L << index;
+        int wordIndex = (int) (index >>> WORD_SHIFT);
+        if ((bits[wordIndex] & mask) == 0) {
+            return false;
+        }
+        bits[wordIndex] &= ~mask;
+        degrees[v1]--;
+        degrees[v2]--;
+        return true;
+    }
+
+    /**
+     * Checks whether an edge exists between vertex v1 and vertex v2, by
+     * looking up the bit of (min(v1, v2), max(v1, v2)).
+     *
+     * Complexity: O(1)
+     *
+     * @param v1 The first vertex
+     * @param v2 The second vertex
+     * @return true if the edge exists, false if the vertices are out of bounds
+     * or if the edge does not exist.
+     */
+    @Override
+    public Boolean getEdge(int v1, int v2) {
+        if (v1 < 0 || v1 >= numVertices || v2 < 0 || v2 >= numVertices || v1 == v2) {
+            return false;
+        }
+
+        return testBit(bitIndex(v1, v2));
+    }
+
+    /**
+     * Retrieves the neighbors of a given vertex as a read-only view. No
+     * elements are copied.
+     *
+     * Complexity: O(1)
+     *
+     * @param v The vertex index for which to retrieve neighbors
+     * @return A collection of integers representing the neighbors of vertex v
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public Collection<Integer> getNeighbors(int v) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+
+        return new TriangularRow(this, v);
+    }
+
+    /**
+     * Calls action for every neighbor of vertex v in ascending order: first
+     * the column of v, then its packed row.
+     *
+     * Complexity: O(v + (n - v) / 64 + k) where k is the number of neighbors
+     * of v.
+     *
+     * @param v The vertex index
+     * @param action The action to run for each neighbor
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public void forEachNeighbor(int v, IntConsumer action) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+
+        long index = v - 1;
+        for (int u = 0; u < v; u++) {
+            if (testBit(index)) {
+                action.accept(u);
+            }
+            index += numVertices - u - 2;
+        }
+
+        long base = rowStart(v) - v - 1;
+        long end = base + numVertices;
+        for (long bit = nextSetBit(base + v + 1, end); bit >= 0; bit = nextSetBit(bit + 1, end)) {
+            action.accept((int) (bit - base));
+        }
+    }
+
+    /**
+     * Returns the first neighbor of vertex v, in ascending order, for which
+     * predicate holds, stopping at the first match.
+     *
+     * Complexity: O(v + (n - v) / 64 + k) in the worst case, where k is the
+     * number of neighbors of v.
+     *
+     * @param v The vertex index
+     * @param predicate The test to run on each neighbor
+     * @return The first matching neighbor, or -1 if there is none
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public int findNeighbor(int v, IntPredicate predicate) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+
+        long index = v - 1;
+        for (int u = 0; u < v; u++) {
+            if (testBit(index) && predicate.test(u)) {
+                return u;
+            }
+            index += numVertices - u - 2;
+        }
+
+        long base = rowStart(v) - v - 1;
+        long end = base + numVertices;
+        for (long bit = nextSetBit(base + v + 1, end); bit >= 0; bit = nextSetBit(bit + 1, end)) {
+            if (predicate.test((int) (bit - base))) {
+                return (int) (bit - base);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of neighbors of vertex v.
+     *
+     * Complexity: O(1)
+     *
+     * @param v The vertex index
+     * @return The degree of vertex v
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    @Override
+    public int degree(int v) {
+        if (v < 0 || v >= numVertices) {
+            throw new IndexOutOfBoundsException("Vertex index out of bounds: " + v);
+        }
+
+        return degrees[v];
+    }
+
+    /**
+     * Copies the neighbors of vertex v into dest in ascending order.
+     *
+     * Complexity: O(v + (n - v) / 64 + k) where k is the number of neighbors
+     * of v.
+     *
+     * @param v The vertex index
+     * @param dest The destination array, at least degree(v) long
+     * @return The number of neighbors copied
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     * @throws IllegalArgumentException if dest is too small
+     */
+    @Override
+    public int copyNeighbors(int v, int[] dest) {
+        int count = degree(v);
+        if (dest.length < count) {
+            throw new IllegalArgumentException("Destination array too small: " + dest.length);
+        }
+
+        int[] written = {0};
+        forEachNeighbor(v, u -> dest[written[0]++] = u);
+        return count;
+    }
+
+    /**
+     * get size of the graph.
+     *
+     * Complexity: O(1)
+     *
+     * @return The number of vertices in the graph
+     */
+    @Override
+    public int size() {
+        return numVertices;
+    }
+
+    /**
+     * Resets the graph to a new size with no edges.
+     *
+     * Complexity: O(n^2 / 128) where n is the new size.
+     *
+     * @param size The new number of vertices for the graph
+     * @throws IllegalArgumentException if size is negative or the triangle
+     * does not fit in a single array
+     */
+    @Override
+    public void reset(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        long words = ((long) size * (size - 1) / 2 + 63) >>> WORD_SHIFT;
+        if (words > MAX_WORDS) {
+            throw new IllegalArgumentException("Graph too large for triangular storage: " + size);
+        }
+
+        // Drop the old triangle first so both are never alive at once.
+        this.bits = null;
+        this.numVertices = size;
+        this.bits = new long[(int) words];
+        this.degrees = new int[size];
+    }
+}
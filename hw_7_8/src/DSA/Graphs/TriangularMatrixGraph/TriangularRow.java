@@ -0,0 +1,93 @@
+package DSA.Graphs.TriangularMatrixGraph;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * TriangularRow is a read-only view over the neighbors of a single vertex of
+ * a TriangularMatrixGraph. Nothing is copied; the iterator reads the column
+ * and the packed row of the vertex from the graph as it goes, so the view
+ * reflects later changes to the graph.
+ */
+public class TriangularRow extends AbstractCollection<Integer> {
+
+    /**
+     * The graph this row belongs to.
+     */
+    private final TriangularMatrixGraph graph;
+
+    /**
+     * The vertex whose neighbors this row holds.
+     */
+    private final int vertex;
+
+    /**
+     * Constructs a view over the neighbors of vertex.
+     *
+     * @param graph the graph the vertex belongs to
+     * @param vertex the vertex index
+     */
+    TriangularRow(TriangularMatrixGraph graph, int vertex) {
+        this.graph = graph;
+        this.vertex = vertex;
+    }
+
+    /**
+     * Returns an iterator over the neighbors in ascending order.
+     *
+     * Complexity: O(n) for a full iteration, where n is the number of
+     * vertices of the graph.
+     *
+     * @return an iterator over the neighbors
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private int currentIndex = graph.nextNeighbor(vertex, 0);
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex >= 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (currentIndex < 0) {
+                    throw new NoSuchElementException();
+                }
+                int result = currentIndex;
+                currentIndex = graph.nextNeighbor(vertex, currentIndex + 1);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of neighbors in this row.
+     *
+     * Complexity: O(1).
+     *
+     * @return the number of neighbors
+     */
+    @Override
+    public int size() {
+        return graph.degree(vertex);
+    }
+
+    /**
+     * Checks if the row contains the given vertex.
+     *
+     * Complexity: O(1).
+     *
+     * @param o the element to check for presence
+     * @return true if the element is present, false otherwise
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof Integer) {
+            return graph.getEdge(vertex, (Integer) o);
+        }
+        return false;
+    }
+}
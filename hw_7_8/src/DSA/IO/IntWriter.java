@@ -0,0 +1,190 @@
+package DSA.IO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A buffered writer for text files made of integers. Integers are formatted
+ * straight into a reusable byte buffer, without creating strings, and the
+ * buffer is flushed through a FileChannel in large blocks. The output is the
+ * same as writing Integer.toString(value) with a FileWriter.
+ */
+public class IntWriter implements Closeable {
+
+    /**
+     * Default buffer size in bytes.
+     */
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Longest text form of an int ("-2147483648").
+     */
+    private static final int MAX_INT_CHARS = 11;
+
+    /**
+     * The channel of the destination file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Bytes waiting to be written.
+     */
+    private final byte[] buffer;
+
+    /**
+     * View of buffer used for channel writes.
+     */
+    private final ByteBuffer view;
+
+    /**
+     * Number of bytes used in buffer.
+     */
+    private int count;
+
+    /**
+     * Opens the file for writing, truncating it if it exists.
+     *
+     * @param filePath path to the destination file
+     * @throws IOException if the file cannot be opened
+     */
+    public IntWriter(String filePath) throws IOException {
+        this(filePath, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Opens the file for writing with the given buffer size, truncating it if
+     * it exists.
+     *
+     * @param filePath path to the destination file
+     * @param bufferBytes size of the buffer in bytes
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if the buffer cannot hold one line of
+     * two integers
+     */
+    public IntWriter(String filePath, int bufferBytes) throws IOException {
+        if (bufferBytes < 2 * MAX_INT_CHARS + 2) {
+            throw new IllegalArgumentException("Buffer too small: " + bufferBytes);
+        }
+        this.channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = new byte[bufferBytes];
+        this.view = ByteBuffer.wrap(buffer);
+        this.count = 0;
+    }
+
+    /**
+     * Writes a single ASCII character.
+     *
+     * @param c the character
+     * @throws IOException if flushing fails
+     */
+    public void writeChar(char c) throws IOException {
+        if (count == buffer.length) {
+            flush();
+        }
+        buffer[count++] = (byte) c;
+    }
+
+    /**
+     * Writes the decimal form of value.
+     *
+     * @param value the value to write
+     * @throws IOException if flushing fails
+     */
+    public void writeInt(int value) throws IOException {
+        if (buffer.length - count < MAX_INT_CHARS) {
+            flush();
+        }
+        count = format(value, buffer, count);
+    }
+
+    /**
+     * Writes value followed by a newline.
+     *
+     * @param value the value to write
+     * @throws IOException if flushing fails
+     */
+    public void writeLine(int value) throws IOException {
+        if (buffer.length - count < MAX_INT_CHARS + 1) {
+            flush();
+        }
+        count = format(value, buffer, count);
+        buffer[count++] = '\n';
+    }
+
+    /**
+     * Writes "first second" followed by a newline.
+     *
+     * @param first the first value
+     * @param second the second value
+     * @throws IOException if flushing fails
+     */
+    public void writeLine(int first, int second) throws IOException {
+        if (buffer.length - count < 2 * MAX_INT_CHARS + 2) {
+            flush();
+        }
+        count = format(first, buffer, count);
+        buffer[count++] = ' ';
+        count = format(second, buffer, count);
+        buffer[count++] = '\n';
+    }
+
+    /**
+     * Writes the buffered bytes to the file.
+     *
+     * @throws IOException if writing fails
+     */
+    public void flush() throws IOException {
+        view.clear().limit(count);
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+        count = 0;
+    }
+
+    /**
+     * Flushes the buffer and closes the file.
+     *
+     * @throws IOException if writing or closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Formats value in decimal into dest at position pos.
+     *
+     * @param value the value to format
+     * @param dest the destination array, with room for MAX_INT_CHARS bytes
+     * @param pos the first position to write to
+     * @return the position after the last written byte
+     */
+    private static int format(int value, byte[] dest, int pos) {
+        // Work with the negative value so that Integer.MIN_VALUE needs no special case.
+        int negative = value < 0 ? value : -value;
+        if (value < 0) {
+            dest[pos++] = '-';
+        }
+
+        int digits = 1;
+        for (int limit = -10; digits < 10 && negative <= limit; limit *= 10) {
+            digits++;
+        }
+
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            dest[i] = (byte) ('0' - negative % 10);
+            negative /= 10;
+        }
+        return end;
+    }
+}
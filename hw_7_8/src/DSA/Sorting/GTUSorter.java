@@ -1,12 +1,39 @@
 package DSA.Sorting;
 
 import java.util.Comparator;
+import java.util.function.ToIntFunction;
 
 /**
- * A generic class for sorting arrays.
+ * A generic class for sorting arrays. Besides the generic, comparator-based
+ * entry point, every sorter has primitive int[] and long[] entry points that
+ * compare keys directly, without boxing or comparator calls.
  */
 public abstract class GTUSorter {
 
+    /**
+     * Receiver of the operation counts of this sorter.
+     */
+    private SortProbe probe = SortProbe.NONE;
+
+    /**
+     * Set the probe that receives the operation counts of this sorter.
+     * Sorters that delegate to other sorters pass the probe on to them.
+     *
+     * @param probe The probe, or null to stop reporting.
+     */
+    public void setProbe(SortProbe probe) {
+        this.probe = probe == null ? SortProbe.NONE : probe;
+    }
+
+    /**
+     * Returns the probe that receives the operation counts of this sorter.
+     *
+     * @return The probe, never null.
+     */
+    protected SortProbe probe() {
+        return probe;
+    }
+
     /**
      * Sort arr in ascending order.
      *
@@ -29,4 +56,130 @@ public abstract class GTUSorter {
      * @param comparator A comparable of type T.
      */
     protected abstract <T> void sort(T[] arr, int start, int end, Comparator<T> comparator);
+
+    /**
+     * Sort arr in ascending order of an int key.
+     *
+     * @param <T> Any type.
+     * @param arr Array to be sorted.
+     * @param key Extracts the sort key of an element.
+     */
+    public <T> void sort(T[] arr, ToIntFunction<? super T> key) {
+        sort(arr, 0, arr.length, key);
+    }
+
+    /**
+     * Sort elements in arr between start (inclusive) and end (exclusive) in
+     * ascending order of an int key. By default the keys are compared with
+     * the comparator-based sort; sorters that can use the key directly
+     * override this method.
+     *
+     * @param <T> Any type.
+     * @param arr Array to be sorted.
+     * @param start First index (inclusive).
+     * @param end Last index (exclusive).
+     * @param key Extracts the sort key of an element.
+     */
+    protected <T> void sort(T[] arr, int start, int end, ToIntFunction<? super T> key) {
+        sort(arr, start, end, Comparator.comparingInt(key));
+    }
+
+    /**
+     * Whether this sorter keeps equal elements in their original order.
+     *
+     * @return true if the sorter is stable.
+     */
+    public boolean isStable() {
+        return false;
+    }
+
+    /**
+     * Sort arr in ascending order.
+     *
+     * @param arr Array to be sorted.
+     */
+    public void sort(int[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sort arr in descending order.
+     *
+     * @param arr Array to be sorted.
+     */
+    public void sortDescending(int[] arr) {
+        sort(arr, 0, arr.length);
+        reverse(arr, 0, arr.length);
+    }
+
+    /**
+     * Sort elements in arr between start (inclusive) and end (exclusive) in
+     * ascending order.
+     *
+     * @param arr Array to be sorted.
+     * @param start First index (inclusive).
+     * @param end Last index (exclusive).
+     */
+    protected abstract void sort(int[] arr, int start, int end);
+
+    /**
+     * Reverse the elements in arr between start (inclusive) and end
+     * (exclusive).
+     *
+     * @param arr Array to be reversed.
+     * @param start First index (inclusive).
+     * @param end Last index (exclusive).
+     */
+    protected static void reverse(int[] arr, int start, int end) {
+        for (int i = start, j = end - 1; i < j; i++, j--) {
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+    }
+
+    /**
+     * Sort arr in ascending order.
+     *
+     * @param arr Array to be sorted.
+     */
+    public void sort(long[] arr) {
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sort arr in descending order.
+     *
+     * @param arr Array to be sorted.
+     */
+    public void sortDescending(long[] arr) {
+        sort(arr, 0, arr.length);
+        reverse(arr, 0, arr.length);
+    }
+
+    /**
+     * Sort elements in arr between start (inclusive) and end (exclusive) in
+     * ascending order.
+     *
+     * @param arr Array to be sorted.
+     * @param start First index (inclusive).
+     * @param end Last index (exclusive).
+     */
+    protected abstract void sort(long[] arr, int start, int end);
+
+    /**
+     * Reverse the elements in arr between start (inclusive) and end
+     * (exclusive).
+     *
+     * @param arr Array to be reversed.
+     * @param start First index (inclusive).
+     * @param end Last index (exclusive).
+     */
+    protected static void reverse(long[] arr, int start, int end) {
+        for (int i = start, j = end - 1; i < j; i++, j--) {
+            long temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+    }
 }
@@ -0,0 +1,337 @@
+package DSA.Sorting;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * InstrumentedSorter wraps another GTUSorter and records what it does: the
+ * number of sort calls and elements, comparator invocations, element writes,
+ * quicksort partition depths, and a histogram of per-call latencies.
+ *
+ * Comparisons are counted by wrapping the comparator; element writes and
+ * partitions are reported by the wrapped sorter through its SortProbe, which
+ * this class replaces. All counters are striped (LongAdder), so a parallel
+ * sorter can report from several threads without contention. The primitive
+ * quicksorts have no comparator to wrap, so they report their comparisons
+ * through the probe as well; the other primitive and key entry points report
+ * nothing.
+ *
+ * Typical use is to compare partition limits for MyQuickSort on a workload:
+ *
+ * <pre>
+ * InstrumentedSorter sorter = new InstrumentedSorter(new MyQuickSort(new MyInsertSort(), 16));
+ * sorter.sort(data, comparator);
+ * System.out.println(sorter.getComparisons() + " comparisons");
+ * </pre>
+ */
+public class InstrumentedSorter extends GTUSorter {
+
+    /**
+     * Number of latency and depth histogram buckets.
+     */
+    public static final int BUCKETS = 64;
+
+    /**
+     * Column names of the rows written by toCsvRow.
+     */
+    public static final String CSV_HEADER = "label,calls,elements,comparisons,moves,partitions,"
+            + "mean_partition_depth,max_partition_depth,total_ns,p50_ns,p99_ns,max_ns";
+
+    private final GTUSorter delegate;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder partitions = new LongAdder();
+    private final LongAdder partitionDepthSum = new LongAdder();
+    private final LongAccumulator maxPartitionDepth = new LongAccumulator(Math::max, 0);
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * latencyHistogram[i] counts calls that took [2^i, 2^(i+1)) nanoseconds.
+     */
+    private final LongAdder[] latencyHistogram = new LongAdder[BUCKETS];
+
+    /**
+     * depthHistogram[d] counts partitions at depth d; the last bucket also
+     * counts deeper partitions.
+     */
+    private final LongAdder[] depthHistogram = new LongAdder[BUCKETS];
+
+    /**
+     * Creates a decorator around the given sorter and attaches its probe to
+     * it. The delegate should not be wrapped by another InstrumentedSorter at
+     * the same time.
+     *
+     * @param delegate The sorter to instrument.
+     */
+    public InstrumentedSorter(GTUSorter delegate) {
+        this.delegate = delegate;
+        for (int i = 0; i < BUCKETS; i++) {
+            latencyHistogram[i] = new LongAdder();
+            depthHistogram[i] = new LongAdder();
+        }
+
+        delegate.setProbe(new SortProbe() {
+            @Override
+            public void moves(long count) {
+                moves.add(count);
+            }
+
+            @Override
+            public void comparisons(long count) {
+                comparisons.add(count);
+            }
+
+            @Override
+            public void partition(int depth, int length) {
+                partitions.increment();
+                partitionDepthSum.add(depth);
+                maxPartitionDepth.accumulate(depth);
+                depthHistogram[Math.min(depth, BUCKETS - 1)].increment();
+            }
+        });
+    }
+
+    /**
+     * Returns the wrapped sorter.
+     *
+     * @return The delegate.
+     */
+    public GTUSorter getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Same as the delegate.
+     *
+     * @return true if the delegate is stable.
+     */
+    @Override
+    public boolean isStable() {
+        return delegate.isStable();
+    }
+
+    @Override
+    protected <T> void sort(T[] arr, int start, int end, Comparator<T> comparator) {
+        Comparator<T> counting = (a, b) -> {
+            comparisons.increment();
+            return comparator.compare(a, b);
+        };
+        long startTime = System.nanoTime();
+        delegate.sort(arr, start, end, counting);
+        record(end - start, System.nanoTime() - startTime);
+    }
+
+    @Override
+    protected <T> void sort(T[] arr, int start, int end, ToIntFunction<? super T> key) {
+        long startTime = System.nanoTime();
+        delegate.sort(arr, start, end, key);
+        record(end - start, System.nanoTime() - startTime);
+    }
+
+    @Override
+    protected void sort(int[] arr, int start, int end) {
+        long startTime = System.nanoTime();
+        delegate.sort(arr, start, end);
+        record(end - start, System.nanoTime() - startTime);
+    }
+
+    @Override
+    protected void sort(long[] arr, int start, int end) {
+        long startTime = System.nanoTime();
+        delegate.sort(arr, start, end);
+        record(end - start, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Record one finished call.
+     */
+    private void record(int length, long nanos) {
+        calls.increment();
+        elements.add(length);
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        latencyHistogram[63 - Long.numberOfLeadingZeros(Math.max(nanos, 1))].increment();
+    }
+
+    /**
+     * @return Number of sort calls.
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return Total number of elements passed to sort calls.
+     */
+    public long getElements() {
+        return elements.sum();
+    }
+
+    /**
+     * @return Number of comparator invocations, plus the comparisons reported
+     * by primitive sorts.
+     */
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    /**
+     * @return Number of element writes reported by the delegate.
+     */
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    /**
+     * @return Number of quicksort partitioning steps.
+     */
+    public long getPartitions() {
+        return partitions.sum();
+    }
+
+    /**
+     * @return Mean recursion depth of the partitioning steps, or 0 if there
+     * were none.
+     */
+    public double getMeanPartitionDepth() {
+        long count = partitions.sum();
+        return count == 0 ? 0 : (double) partitionDepthSum.sum() / count;
+    }
+
+    /**
+     * @return Deepest partitioning step.
+     */
+    public long getMaxPartitionDepth() {
+        return maxPartitionDepth.get();
+    }
+
+    /**
+     * @return Total time spent in sort calls, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @return Number of calls per latency bucket; bucket i covers [2^i,
+     * 2^(i+1)) nanoseconds.
+     */
+    public long[] getLatencyHistogram() {
+        return snapshot(latencyHistogram);
+    }
+
+    /**
+     * @return Number of partitioning steps per recursion depth; the last
+     * bucket also counts deeper steps.
+     */
+    public long[] getPartitionDepthHistogram() {
+        return snapshot(depthHistogram);
+    }
+
+    /**
+     * Approximate latency percentile: the upper bound of the histogram
+     * bucket that holds it.
+     *
+     * @param percentile A value in (0, 100].
+     * @return Latency in nanoseconds, or 0 if there were no calls.
+     */
+    public long getLatencyPercentile(double percentile) {
+        long[] histogram = getLatencyHistogram();
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= Math.max(rank, 1)) {
+                return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Clear all counters.
+     */
+    public void reset() {
+        calls.reset();
+        elements.reset();
+        comparisons.reset();
+        moves.reset();
+        partitions.reset();
+        partitionDepthSum.reset();
+        maxPartitionDepth.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        for (int i = 0; i < BUCKETS; i++) {
+            latencyHistogram[i].reset();
+            depthHistogram[i].reset();
+        }
+    }
+
+    /**
+     * Format the counters as one CSV row, with the columns of CSV_HEADER.
+     *
+     * @param label Value of the first column.
+     * @return The row, without a line terminator.
+     */
+    public String toCsvRow(String label) {
+        return String.join(",", label,
+                Long.toString(getCalls()),
+                Long.toString(getElements()),
+                Long.toString(getComparisons()),
+                Long.toString(getMoves()),
+                Long.toString(getPartitions()),
+                String.format(Locale.ROOT, "%.3f", getMeanPartitionDepth()),
+                Long.toString(getMaxPartitionDepth()),
+                Long.toString(getTotalNanos()),
+                Long.toString(getLatencyPercentile(50)),
+                Long.toString(getLatencyPercentile(99)),
+                Long.toString(maxNanos.get()));
+    }
+
+    /**
+     * Write a CSV file with one row per sorter.
+     *
+     * @param filePath Path to the file.
+     * @param sorters Sorters by label, in row order.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeCsv(String filePath, Map<String, InstrumentedSorter> sorters) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            for (Map.Entry<String, InstrumentedSorter> entry : sorters.entrySet()) {
+                writer.write(entry.getValue().toCsvRow(entry.getKey()));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static long[] snapshot(LongAdder[] adders) {
+        long[] values = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            values[i] = adders[i].sum();
+        }
+        return values;
+    }
+}
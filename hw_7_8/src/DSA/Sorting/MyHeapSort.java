@@ -0,0 +1,162 @@
+package DSA.Sorting;
+
+import java.util.Comparator;
+
+/**
+ * MyHeapSort is a concrete implementation of the GTUSorter class that uses the
+ * heapsort algorithm. It sorts in place and its running time is O(n log n) for
+ * every input, which makes it the fallback of MyQuickSort's introspective
+ * mode.
+ */
+public class MyHeapSort extends GTUSorter {
+
+    /**
+     * Heapsort implementation. This method builds a max-heap over the subarray
+     * and then repeatedly moves the largest element to the end.
+     *
+     * complexity: O(n log n)
+     *
+     * @param arr the array to be sorted
+     * @param start the starting index of the subarray
+     * @param end the ending index of the subarray (exclusive)
+     * @param comparator the comparator to determine the order of the elements
+     */
+    @Override
+    protected <T> void sort(T[] arr, int start, int end, Comparator<T> comparator) {
+        int length = end - start;
+        long moves = 0;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            moves += siftDown(arr, start, i, length, comparator);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            T temp = arr[start];
+            arr[start] = arr[start + last];
+            arr[start + last] = temp;
+            moves += 2 + siftDown(arr, start, 0, last, comparator);
+        }
+        probe().moves(moves);
+    }
+
+    /**
+     * Heapsort on a int array.
+     *
+     * complexity: O(n log n)
+     *
+     * @param arr the array to be sorted
+     * @param start the starting index of the subarray
+     * @param end the ending index of the subarray (exclusive)
+     */
+    @Override
+    protected void sort(int[] arr, int start, int end) {
+        int length = end - start;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(arr, start, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            int temp = arr[start];
+            arr[start] = arr[start + last];
+            arr[start + last] = temp;
+            siftDown(arr, start, 0, last);
+        }
+    }
+
+    /**
+     * int version of siftDown.
+     */
+    private void siftDown(int[] arr, int start, int i, int size) {
+        int item = arr[start + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && arr[start + child + 1] > arr[start + child]) {
+                child++;
+            }
+            if (arr[start + child] <= item) {
+                break;
+            }
+            arr[start + i] = arr[start + child];
+            i = child;
+        }
+        arr[start + i] = item;
+    }
+
+    /**
+     * Heapsort on a long array.
+     *
+     * complexity: O(n log n)
+     *
+     * @param arr the array to be sorted
+     * @param start the starting index of the subarray
+     * @param end the ending index of the subarray (exclusive)
+     */
+    @Override
+    protected void sort(long[] arr, int start, int end) {
+        int length = end - start;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(arr, start, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            long temp = arr[start];
+            arr[start] = arr[start + last];
+            arr[start + last] = temp;
+            siftDown(arr, start, 0, last);
+        }
+    }
+
+    /**
+     * long version of siftDown.
+     */
+    private void siftDown(long[] arr, int start, int i, int size) {
+        long item = arr[start + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && arr[start + child + 1] > arr[start + child]) {
+                child++;
+            }
+            if (arr[start + child] <= item) {
+                break;
+            }
+            arr[start + i] = arr[start + child];
+            i = child;
+        }
+        arr[start + i] = item;
+    }
+
+    /**
+     * Moves the element at heap index i down until both children are not
+     * larger. Heap index k is stored at arr[start + k].
+     *
+     * @param arr the array holding the heap
+     * @param start the index of the heap root
+     * @param i the heap index of the element to move
+     * @param size the number of elements in the heap
+     * @param comparator the comparator to determine the order of the elements
+     * @return the number of element writes
+     */
+    private <T> int siftDown(T[] arr, int start, int i, int size, Comparator<T> comparator) {
+        T item = arr[start + i];
+        int moves = 1;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && comparator.compare(arr[start + child + 1], arr[start + child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(arr[start + child], item) <= 0) {
+                break;
+            }
+            arr[start + i] = arr[start + child];
+            i = child;
+            moves++;
+        }
+        arr[start + i] = item;
+        return moves;
+    }
+}
@@ -8,6 +8,17 @@ import java.util.Comparator;
  */
 public class MyInsertSort extends GTUSorter {
 
+    /**
+     * Insertion sort only moves an element past strictly larger ones, so it
+     * is stable.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
     /**
      * Insertion sort implementation. This method sorts a subarray of the given
      * array using the insertion sort algorithm.
@@ -22,6 +33,7 @@ public class MyInsertSort extends GTUSorter {
     @Override
     protected <T> void sort(T[] arr, int start, int end, Comparator<T> comparator) {
         //Insertion sort
+        long moves = 0;
         for (int i = start + 1; i < end; i++) {
             T selected_item = arr[i];
             int j = i - 1;
@@ -30,8 +42,54 @@ public class MyInsertSort extends GTUSorter {
                 --j;
             }
             arr[j + 1] = selected_item;
+            moves += i - j;
+        }
+        probe().moves(moves);
+
+    }
+
+    /**
+     * Insertion sort on a int array.
+     *
+     * complexity: O(n^2)
+     *
+     * @param arr the array to be sorted
+     * @param start the starting index of the subarray
+     * @param end the ending index of the subarray
+     */
+    @Override
+    protected void sort(int[] arr, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            int selected_item = arr[i];
+            int j = i - 1;
+            while (j >= start && arr[j] > selected_item) {
+                arr[j + 1] = arr[j];
+                --j;
+            }
+            arr[j + 1] = selected_item;
         }
+    }
 
+    /**
+     * Insertion sort on a long array.
+     *
+     * complexity: O(n^2)
+     *
+     * @param arr the array to be sorted
+     * @param start the starting index of the subarray
+     * @param end the ending index of the subarray
+     */
+    @Override
+    protected void sort(long[] arr, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            long selected_item = arr[i];
+            int j = i - 1;
+            while (j >= start && arr[j] > selected_item) {
+                arr[j + 1] = arr[j];
+                --j;
+            }
+            arr[j + 1] = selected_item;
+        }
     }
 
 }
@@ -0,0 +1,430 @@
+package DSA.Sorting;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * MyParallelQuickSort is a fork/join version of MyQuickSort. Ranges are
+ * partitioned three ways around a random pivot, so keys equal to the pivot
+ * are never looked at again and inputs with many equal keys stay fast. While
+ * a range is larger than the parallel cutoff, the smaller part of each
+ * partition is forked as a separate task; smaller ranges are sorted on the
+ * current thread, recursing only on the smaller part, so the stack depth is
+ * O(log n). Every task draws its pivots from its own SplittableRandom, split
+ * from its parent's, so no random source is shared between threads.
+ *
+ * The alternative sorter is called concurrently from several threads, so it
+ * must not keep state between calls (MyInsertSort and MySelectSort do not).
+ */
+public class MyParallelQuickSort extends GTUSorter {
+
+    /**
+     * Default size above which a partition is forked.
+     */
+    public static final int DEFAULT_PARALLEL_CUTOFF = 1 << 13;
+
+    /**
+     * The partition limit for using an alternative sorter.
+     */
+    private final int partitionLimit;
+
+    /**
+     * Alternative sorter to use for small partitions.
+     */
+    private final GTUSorter alternativeSorter;
+
+    /**
+     * Ranges larger than this are split into parallel tasks.
+     */
+    private final int parallelCutoff;
+
+    /**
+     * The pool that runs the tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Source of the per-call random seeds.
+     */
+    private final SplittableRandom seeds = new SplittableRandom();
+
+    /**
+     * Default constructor. Runs on the common pool with the default cutoff and
+     * no alternative sorter.
+     */
+    public MyParallelQuickSort() {
+        this(null, -1, DEFAULT_PARALLEL_CUTOFF, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor that sets an alternative sorter for small partitions. Runs
+     * on the common pool with the default cutoff.
+     *
+     * @param alternativeSorter The sorter to use for small partitions.
+     * @param partitionLimit The size limit for using the alternative sorter.
+     */
+    public MyParallelQuickSort(GTUSorter alternativeSorter, int partitionLimit) {
+        this(alternativeSorter, partitionLimit, DEFAULT_PARALLEL_CUTOFF, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor that sets every parameter.
+     *
+     * @param alternativeSorter The sorter to use for small partitions, or null.
+     * @param partitionLimit The size limit for using the alternative sorter.
+     * @param parallelCutoff Ranges larger than this are forked.
+     * @param pool The pool that runs the tasks.
+     * @throws IllegalArgumentException if parallelCutoff is not positive
+     */
+    public MyParallelQuickSort(GTUSorter alternativeSorter, int partitionLimit, int parallelCutoff, ForkJoinPool pool) {
+        if (parallelCutoff <= 0) {
+            throw new IllegalArgumentException("Parallel cutoff must be positive");
+        }
+        this.alternativeSorter = alternativeSorter;
+        this.partitionLimit = partitionLimit;
+        this.parallelCutoff = parallelCutoff;
+        this.pool = pool;
+    }
+
+    /**
+     * Sorts the given range with parallel quicksort.
+     *
+     * Complexity: O(n log n) work on average, O(n log k) for k distinct keys,
+     * O(n^2) in the worst case.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     * @param comparator The comparator to determine the order of the elements.
+     * @param <T> The type of elements in the array.
+     */
+    @Override
+    protected <T> void sort(T[] arr, int start, int end, Comparator<T> comparator) {
+        SplittableRandom random;
+        synchronized (seeds) {
+            random = seeds.split();
+        }
+        pool.invoke(new SortTask<>(arr, start, end, comparator, random, 0));
+    }
+
+    /**
+     * Sets the probe of this sorter and of its alternative sorter.
+     *
+     * @param probe The probe, or null to stop reporting.
+     */
+    @Override
+    public void setProbe(SortProbe probe) {
+        super.setProbe(probe);
+        if (alternativeSorter != null) {
+            alternativeSorter.setProbe(probe);
+        }
+    }
+
+    /**
+     * Sorts a int array with parallel quicksort.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     */
+    @Override
+    protected void sort(int[] arr, int start, int end) {
+        SplittableRandom random;
+        synchronized (seeds) {
+            random = seeds.split();
+        }
+        pool.invoke(new IntSortTask(arr, start, end, random, 0));
+    }
+
+    /**
+     * Sorts a long array with parallel quicksort.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     */
+    @Override
+    protected void sort(long[] arr, int start, int end) {
+        SplittableRandom random;
+        synchronized (seeds) {
+            random = seeds.split();
+        }
+        pool.invoke(new LongSortTask(arr, start, end, random, 0));
+    }
+
+    /**
+     * Sorts one range. While the range is large, it is partitioned, the
+     * smaller part is forked and the larger part is kept, so the tasks a
+     * worker joins inline are nested at most log2(n) deep.
+     */
+    private class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] arr;
+        private final int start;
+        private final int end;
+        private final Comparator<T> comparator;
+        private final SplittableRandom random;
+        private final int depth;
+
+        SortTask(T[] arr, int start, int end, Comparator<T> comparator, SplittableRandom random, int depth) {
+            this.arr = arr;
+            this.start = start;
+            this.end = end;
+            this.comparator = comparator;
+            this.random = random;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            int from = start;
+            int to = end;
+            int level = depth;
+            ArrayDeque<SortTask<T>> forked = new ArrayDeque<>();
+
+            // Fork the smaller part and keep working on the larger part while the range is large.
+            while (to - from > parallelCutoff) {
+                long bounds = MyQuickSort.threeWayPartition(arr, from, to - 1, arr[from + random.nextInt(to - from)], comparator);
+                int leftEnd = (int) (bounds >>> 32);
+                int rightStart = (int) bounds + 1;
+                report(from, to, leftEnd, rightStart, level++);
+
+                SortTask<T> smaller;
+                if (leftEnd - from < to - rightStart) {
+                    smaller = new SortTask<>(arr, from, leftEnd, comparator, random.split(), level);
+                    from = rightStart;
+                } else {
+                    smaller = new SortTask<>(arr, rightStart, to, comparator, random.split(), level);
+                    to = leftEnd;
+                }
+                smaller.fork();
+                forked.push(smaller);
+            }
+
+            sequentialSort(arr, from, to, comparator, random, level);
+            while (!forked.isEmpty()) {
+                forked.pop().join();
+            }
+        }
+    }
+
+    /**
+     * Sorts a range on the current thread, recursing on the smaller part of
+     * every partition and looping on the larger one.
+     */
+    private <T> void sequentialSort(T[] arr, int start, int end, Comparator<T> comparator, SplittableRandom random, int depth) {
+        while (true) {
+            int length = end - start;
+            if (length <= 1) {
+                return;
+            }
+
+            // Use alternative sorter if partition is small and sorter is defined
+            if (partitionLimit > 0 && alternativeSorter != null && length <= partitionLimit) {
+                alternativeSorter.sort(arr, start, end, comparator);
+                return;
+            }
+
+            long bounds = MyQuickSort.threeWayPartition(arr, start, end - 1, arr[start + random.nextInt(length)], comparator);
+            int leftEnd = (int) (bounds >>> 32);
+            int rightStart = (int) bounds + 1;
+            report(start, end, leftEnd, rightStart, depth++);
+
+            if (leftEnd - start < end - rightStart) {
+                sequentialSort(arr, start, leftEnd, comparator, random, depth);
+                start = rightStart;
+            } else {
+                sequentialSort(arr, rightStart, end, comparator, random, depth);
+                end = leftEnd;
+            }
+        }
+    }
+
+    /**
+     * Reports one partitioning step of [start, end) to the probe. The swap
+     * count follows from the partition bounds.
+     */
+    private void report(int start, int end, int leftEnd, int rightStart, int depth) {
+        SortProbe probe = probe();
+        probe.moves(2L * ((leftEnd - start) + (end - rightStart)));
+        probe.partition(depth, end - start);
+    }
+
+    /**
+     * Reports one partitioning step of a primitive sort, with its comparisons:
+     * every key is compared once, and a second time unless it is smaller than
+     * the pivot.
+     */
+    private void reportPrimitive(int start, int end, int leftEnd, int rightStart, int depth) {
+        report(start, end, leftEnd, rightStart, depth);
+        probe().comparisons(2L * (end - start) - (leftEnd - start));
+    }
+
+    /**
+     * int version of SortTask.
+     */
+    private class IntSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int start;
+        private final int end;
+        private final SplittableRandom random;
+        private final int depth;
+
+        IntSortTask(int[] arr, int start, int end, SplittableRandom random, int depth) {
+            this.arr = arr;
+            this.start = start;
+            this.end = end;
+            this.random = random;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            int from = start;
+            int to = end;
+            int level = depth;
+            ArrayDeque<IntSortTask> forked = new ArrayDeque<>();
+
+            while (to - from > parallelCutoff) {
+                long bounds = MyQuickSort.threeWayPartition(arr, from, to - 1, arr[from + random.nextInt(to - from)]);
+                int leftEnd = (int) (bounds >>> 32);
+                int rightStart = (int) bounds + 1;
+                reportPrimitive(from, to, leftEnd, rightStart, level++);
+
+                IntSortTask smaller;
+                if (leftEnd - from < to - rightStart) {
+                    smaller = new IntSortTask(arr, from, leftEnd, random.split(), level);
+                    from = rightStart;
+                } else {
+                    smaller = new IntSortTask(arr, rightStart, to, random.split(), level);
+                    to = leftEnd;
+                }
+                smaller.fork();
+                forked.push(smaller);
+            }
+
+            sequentialSort(arr, from, to, random, level);
+            while (!forked.isEmpty()) {
+                forked.pop().join();
+            }
+        }
+    }
+
+    /**
+     * int version of sequentialSort.
+     */
+    private void sequentialSort(int[] arr, int start, int end, SplittableRandom random, int depth) {
+        while (true) {
+            int length = end - start;
+            if (length <= 1) {
+                return;
+            }
+
+            if (partitionLimit > 0 && alternativeSorter != null && length <= partitionLimit) {
+                alternativeSorter.sort(arr, start, end);
+                return;
+            }
+
+            long bounds = MyQuickSort.threeWayPartition(arr, start, end - 1, arr[start + random.nextInt(length)]);
+            int leftEnd = (int) (bounds >>> 32);
+            int rightStart = (int) bounds + 1;
+            reportPrimitive(start, end, leftEnd, rightStart, depth++);
+
+            if (leftEnd - start < end - rightStart) {
+                sequentialSort(arr, start, leftEnd, random, depth);
+                start = rightStart;
+            } else {
+                sequentialSort(arr, rightStart, end, random, depth);
+                end = leftEnd;
+            }
+        }
+    }
+
+    /**
+     * long version of SortTask.
+     */
+    private class LongSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] arr;
+        private final int start;
+        private final int end;
+        private final SplittableRandom random;
+        private final int depth;
+
+        LongSortTask(long[] arr, int start, int end, SplittableRandom random, int depth) {
+            this.arr = arr;
+            this.start = start;
+            this.end = end;
+            this.random = random;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            int from = start;
+            int to = end;
+            int level = depth;
+            ArrayDeque<LongSortTask> forked = new ArrayDeque<>();
+
+            while (to - from > parallelCutoff) {
+                long bounds = MyQuickSort.threeWayPartition(arr, from, to - 1, arr[from + random.nextInt(to - from)]);
+                int leftEnd = (int) (bounds >>> 32);
+                int rightStart = (int) bounds + 1;
+                reportPrimitive(from, to, leftEnd, rightStart, level++);
+
+                LongSortTask smaller;
+                if (leftEnd - from < to - rightStart) {
+                    smaller = new LongSortTask(arr, from, leftEnd, random.split(), level);
+                    from = rightStart;
+                } else {
+                    smaller = new LongSortTask(arr, rightStart, to, random.split(), level);
+                    to = leftEnd;
+                }
+                smaller.fork();
+                forked.push(smaller);
+            }
+
+            sequentialSort(arr, from, to, random, level);
+            while (!forked.isEmpty()) {
+                forked.pop().join();
+            }
+        }
+    }
+
+    /**
+     * long version of sequentialSort.
+     */
+    private void sequentialSort(long[] arr, int start, int end, SplittableRandom random, int depth) {
+        while (true) {
+            int length = end - start;
+            if (length <= 1) {
+                return;
+            }
+
+            if (partitionLimit > 0 && alternativeSorter != null && length <= partitionLimit) {
+                alternativeSorter.sort(arr, start, end);
+                return;
+            }
+
+            long bounds = MyQuickSort.threeWayPartition(arr, start, end - 1, arr[start + random.nextInt(length)]);
+            int leftEnd = (int) (bounds >>> 32);
+            int rightStart = (int) bounds + 1;
+            reportPrimitive(start, end, leftEnd, rightStart, depth++);
+
+            if (leftEnd - start < end - rightStart) {
+                sequentialSort(arr, start, leftEnd, random, depth);
+                start = rightStart;
+            } else {
+                sequentialSort(arr, rightStart, end, random, depth);
+                end = leftEnd;
+            }
+        }
+    }
+}
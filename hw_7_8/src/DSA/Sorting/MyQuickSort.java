@@ -11,6 +11,40 @@ import java.util.Random;
  */
 public class MyQuickSort extends GTUSorter {
 
+    /**
+     * The partitioning schemes MyQuickSort can use.
+     */
+    public enum Partitioning {
+        /**
+         * Two-way Lomuto partitioning. Keys equal to the pivot all go to the
+         * left part, so inputs with many equal keys degrade to O(n^2).
+         */
+        LOMUTO,
+
+        /**
+         * Three-way (Dutch national flag) partitioning. Keys equal to the
+         * pivot are gathered in the middle and never looked at again, so an
+         * input with k distinct keys costs O(n log k).
+         */
+        THREE_WAY
+    }
+
+    /**
+     * The partitioning scheme.
+     */
+    private final Partitioning partitioning;
+
+    /**
+     * Whether recursion depth is limited (introsort). When a range is split
+     * more than about 2 log2(n) times, it is finished with heapsort.
+     */
+    private final boolean introspective;
+
+    /**
+     * Fallback sorter of the introspective mode.
+     */
+    private final MyHeapSort heapSort = new MyHeapSort();
+
     /**
      * The partition limit for using an alternative sorter.
      */
@@ -31,8 +65,17 @@ public class MyQuickSort extends GTUSorter {
      * not use an alternative sorter.
      */
     public MyQuickSort() {
-        this.partitionLimit = -1;
-        this.alternativeSorter = null;
+        this(null, -1, Partitioning.LOMUTO);
+    }
+
+    /**
+     * Constructor that selects the partitioning scheme and does not use an
+     * alternative sorter.
+     *
+     * @param partitioning The partitioning scheme.
+     */
+    public MyQuickSort(Partitioning partitioning) {
+        this(null, -1, partitioning);
     }
 
     /**
@@ -43,17 +86,47 @@ public class MyQuickSort extends GTUSorter {
      * @param partitionLimit The size limit for using the alternative sorter.
      */
     public MyQuickSort(GTUSorter alternativeSorter, int partitionLimit) {
+        this(alternativeSorter, partitionLimit, Partitioning.LOMUTO);
+    }
+
+    /**
+     * Constructor that sets an alternative sorter and selects the
+     * partitioning scheme.
+     *
+     * @param alternativeSorter The sorter to use for small partitions.
+     * @param partitionLimit The size limit for using the alternative sorter.
+     * @param partitioning The partitioning scheme.
+     */
+    public MyQuickSort(GTUSorter alternativeSorter, int partitionLimit, Partitioning partitioning) {
+        this(alternativeSorter, partitionLimit, partitioning, false);
+    }
+
+    /**
+     * Constructor that sets every option.
+     *
+     * @param alternativeSorter The sorter to use for small partitions.
+     * @param partitionLimit The size limit for using the alternative sorter.
+     * @param partitioning The partitioning scheme.
+     * @param introspective true to switch a range to heapsort once the
+     * recursion depth exceeds 2 log2(n), which bounds the running time to
+     * O(n log n).
+     */
+    public MyQuickSort(GTUSorter alternativeSorter, int partitionLimit, Partitioning partitioning, boolean introspective) {
         this.partitionLimit = partitionLimit;
         this.alternativeSorter = alternativeSorter;
+        this.partitioning = partitioning;
+        this.introspective = introspective;
     }
 
     /**
      * Sorts the givven array using the QuickSort algorithm. If the partition
      * size is small and an alternative sorter is defined, it uses the
      * alternative sorter instead. This implementation uses a random pivot for
-     * partitioning to improve performance
+     * partitioning to improve performance. Only the smaller part of each
+     * partition is sorted recursively, so the stack depth is O(log n).
      *
-     * Complexity: O(n log n) on average, O(n^2) in the worst case.
+     * Complexity: O(n log n) on average, O(n^2) in the worst case, or
+     * O(n log n) in the worst case in introspective mode.
      *
      * @param arr The array to be sorted.
      * @param start The starting index of the subarray to be sorted.
@@ -63,21 +136,369 @@ public class MyQuickSort extends GTUSorter {
      */
     @Override
     protected <T> void sort(T[] arr, int start, int end, Comparator<T> comparator) {
-        int length = end - start;
-        if (length <= 1) {
-            return;
+        int depthLimit = introspective ? 2 * log2(Math.max(end - start, 1)) : -1;
+        quickSort(arr, start, end, comparator, depthLimit, 0);
+    }
+
+    /**
+     * Sorts a range, recursing on the smaller part of every partition and
+     * looping on the larger one.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     * @param comparator The comparator to determine the order of the elements.
+     * @param depthLimit Number of partitions left before switching to
+     * heapsort, or -1 for no limit.
+     * @param depth Recursion depth of the range, reported to the probe.
+     * @param <T> The type of elements in the array.
+     */
+    private <T> void quickSort(T[] arr, int start, int end, Comparator<T> comparator, int depthLimit, int depth) {
+        while (true) {
+            int length = end - start;
+            if (length <= 1) {
+                return;
+            }
+
+            // Use alternative sorter if partition is small and sorter is defined
+            if (partitionLimit > 0 && alternativeSorter != null && length <= partitionLimit) {
+                alternativeSorter.sort(arr, start, end, comparator);
+                return;
+            }
+
+            // Too many bad splits: finish this range with heapsort
+            if (depthLimit == 0) {
+                heapSort.sort(arr, start, end, comparator);
+                return;
+            }
+            if (depthLimit > 0) {
+                depthLimit--;
+            }
+
+            int leftEnd;
+            int rightStart;
+            if (partitioning == Partitioning.THREE_WAY) {
+                // QuickSort with random pivot, skipping the keys equal to the pivot
+                long bounds = threeWayPartition(arr, start, end - 1, arr[start + random.nextInt(length)], comparator);
+                leftEnd = (int) (bounds >>> 32);
+                rightStart = (int) bounds + 1;
+            } else {
+                // QuickSort with random pivot
+                int pivotIndex = randomPartition(arr, start, end - 1, comparator);
+                leftEnd = pivotIndex;
+                rightStart = pivotIndex + 1;
+            }
+
+            report(start, end, leftEnd, rightStart, depth);
+            depth++;
+
+            if (leftEnd - start < end - rightStart) {
+                quickSort(arr, start, leftEnd, comparator, depthLimit, depth);
+                start = rightStart;
+            } else {
+                quickSort(arr, rightStart, end, comparator, depthLimit, depth);
+                end = leftEnd;
+            }
+        }
+    }
+
+    /**
+     * Sorts a int array with the same scheme as the generic version.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     */
+    @Override
+    protected void sort(int[] arr, int start, int end) {
+        int depthLimit = introspective ? 2 * log2(Math.max(end - start, 1)) : -1;
+        quickSort(arr, start, end, depthLimit, 0);
+    }
+
+    /**
+     * int version of quickSort.
+     */
+    private void quickSort(int[] arr, int start, int end, int depthLimit, int depth) {
+        while (true) {
+            int length = end - start;
+            if (length <= 1) {
+                return;
+            }
+
+            if (partitionLimit > 0 && alternativeSorter != null && length <= partitionLimit) {
+                alternativeSorter.sort(arr, start, end);
+                return;
+            }
+
+            if (depthLimit == 0) {
+                heapSort.sort(arr, start, end);
+                return;
+            }
+            if (depthLimit > 0) {
+                depthLimit--;
+            }
+
+            int leftEnd;
+            int rightStart;
+            if (partitioning == Partitioning.THREE_WAY) {
+                long bounds = threeWayPartition(arr, start, end - 1, arr[start + random.nextInt(length)]);
+                leftEnd = (int) (bounds >>> 32);
+                rightStart = (int) bounds + 1;
+            } else {
+                int pivotIndex = start + random.nextInt(end - start);
+                swap(arr, pivotIndex, end - 1);
+                pivotIndex = partition(arr, start, end - 1);
+                leftEnd = pivotIndex;
+                rightStart = pivotIndex + 1;
+            }
+
+            report(start, end, leftEnd, rightStart, depth);
+            reportComparisons(start, end, leftEnd);
+            depth++;
+
+            if (leftEnd - start < end - rightStart) {
+                quickSort(arr, start, leftEnd, depthLimit, depth);
+                start = rightStart;
+            } else {
+                quickSort(arr, rightStart, end, depthLimit, depth);
+                end = leftEnd;
+            }
+        }
+    }
+
+    /**
+     * int version of threeWayPartition.
+     */
+    static long threeWayPartition(int[] arr, int start, int end, int pivot) {
+        int lt = start;
+        int i = start;
+        int gt = end;
+        while (i <= gt) {
+            if (arr[i] < pivot) {
+                swap(arr, lt++, i++);
+            } else if (arr[i] > pivot) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | gt;
+    }
+
+    /**
+     * int version of partition. The pivot is the last element of the range.
+     */
+    static int partition(int[] arr, int start, int end) {
+        int pivot = arr[end];
+        int i = start;
+        for (int j = start; j < end; j++) {
+            if (arr[j] <= pivot) {
+                swap(arr, i, j);
+                i++;
+            }
+        }
+        swap(arr, i, end);
+        return i;
+    }
+
+    /**
+     * int version of swap.
+     */
+    static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    /**
+     * Sorts a long array with the same scheme as the generic version.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     */
+    @Override
+    protected void sort(long[] arr, int start, int end) {
+        int depthLimit = introspective ? 2 * log2(Math.max(end - start, 1)) : -1;
+        quickSort(arr, start, end, depthLimit, 0);
+    }
+
+    /**
+     * long version of quickSort.
+     */
+    private void quickSort(long[] arr, int start, int end, int depthLimit, int depth) {
+        while (true) {
+            int length = end - start;
+            if (length <= 1) {
+                return;
+            }
+
+            if (partitionLimit > 0 && alternativeSorter != null && length <= partitionLimit) {
+                alternativeSorter.sort(arr, start, end);
+                return;
+            }
+
+            if (depthLimit == 0) {
+                heapSort.sort(arr, start, end);
+                return;
+            }
+            if (depthLimit > 0) {
+                depthLimit--;
+            }
+
+            int leftEnd;
+            int rightStart;
+            if (partitioning == Partitioning.THREE_WAY) {
+                long bounds = threeWayPartition(arr, start, end - 1, arr[start + random.nextInt(length)]);
+                leftEnd = (int) (bounds >>> 32);
+                rightStart = (int) bounds + 1;
+            } else {
+                int pivotIndex = start + random.nextInt(end - start);
+                swap(arr, pivotIndex, end - 1);
+                pivotIndex = partition(arr, start, end - 1);
+                leftEnd = pivotIndex;
+                rightStart = pivotIndex + 1;
+            }
+
+            report(start, end, leftEnd, rightStart, depth);
+            reportComparisons(start, end, leftEnd);
+            depth++;
+
+            if (leftEnd - start < end - rightStart) {
+                quickSort(arr, start, leftEnd, depthLimit, depth);
+                start = rightStart;
+            } else {
+                quickSort(arr, rightStart, end, depthLimit, depth);
+                end = leftEnd;
+            }
+        }
+    }
+
+    /**
+     * long version of threeWayPartition.
+     */
+    static long threeWayPartition(long[] arr, int start, int end, long pivot) {
+        int lt = start;
+        int i = start;
+        int gt = end;
+        while (i <= gt) {
+            if (arr[i] < pivot) {
+                swap(arr, lt++, i++);
+            } else if (arr[i] > pivot) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | gt;
+    }
+
+    /**
+     * long version of partition. The pivot is the last element of the range.
+     */
+    static int partition(long[] arr, int start, int end) {
+        long pivot = arr[end];
+        int i = start;
+        for (int j = start; j < end; j++) {
+            if (arr[j] <= pivot) {
+                swap(arr, i, j);
+                i++;
+            }
+        }
+        swap(arr, i, end);
+        return i;
+    }
+
+    /**
+     * long version of swap.
+     */
+    static void swap(long[] arr, int i, int j) {
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    /**
+     * Sets the probe of this sorter, of its heapsort fallback and of its
+     * alternative sorter.
+     *
+     * @param probe The probe, or null to stop reporting.
+     */
+    @Override
+    public void setProbe(SortProbe probe) {
+        super.setProbe(probe);
+        heapSort.setProbe(probe);
+        if (alternativeSorter != null) {
+            alternativeSorter.setProbe(probe);
+        }
+    }
+
+    /**
+     * Reports one partitioning step of [start, end) to the probe. The swap
+     * counts follow from the partition bounds.
+     */
+    private void report(int start, int end, int leftEnd, int rightStart, int depth) {
+        SortProbe probe = probe();
+        if (partitioning == Partitioning.THREE_WAY) {
+            probe.moves(2L * ((leftEnd - start) + (end - rightStart)));
+        } else {
+            probe.moves(2L * (leftEnd - start + 2));
         }
+        probe.partition(depth, end - start);
+    }
 
-        // Use alternative sorter if partition is small and sorter is defined
-        if (partitionLimit > 0 && alternativeSorter != null && length <= partitionLimit) {
-            alternativeSorter.sort(arr, start, end, comparator);
-            return;
+    /**
+     * Reports the key comparisons of one partitioning step of a primitive
+     * sort, which has no comparator to count them through. Lomuto compares
+     * every key but the pivot once. The three-way scan looks at every key
+     * once, and compares it a second time unless it is smaller than the pivot.
+     */
+    private void reportComparisons(int start, int end, int leftEnd) {
+        if (partitioning == Partitioning.THREE_WAY) {
+            probe().comparisons(2L * (end - start) - (leftEnd - start));
+        } else {
+            probe().comparisons(end - start - 1);
         }
+    }
+
+    /**
+     * Returns floor(log2(n)) for a positive n.
+     *
+     * @param n A positive number.
+     * @return The base-2 logarithm of n, rounded down.
+     */
+    private static int log2(int n) {
+        return 31 - Integer.numberOfLeadingZeros(n);
+    }
 
-        // QuickSort with random pivot
-        int pivotIndex = randomPartition(arr, start, end - 1, comparator);
-        sort(arr, start, pivotIndex, comparator);
-        sort(arr, pivotIndex + 1, end, comparator);
+    /**
+     * Partitions the array into keys less than, equal to and greater than the
+     * pivot (Dutch national flag). Shared with MyParallelQuickSort.
+     *
+     * @param arr The array to be partitioned.
+     * @param start The starting index of the subarray to be partitioned.
+     * @param end The ending index of the subarray to be partitioned (inclusive).
+     * @param pivot The pivot, a key of the range.
+     * @param comparator The comparator to determine the order of the elements.
+     * @param <T> The type of elements in the array.
+     * @return The first index of the equal keys in the upper 32 bits and the
+     * last index of the equal keys in the lower 32 bits.
+     */
+    static <T> long threeWayPartition(T[] arr, int start, int end, T pivot, Comparator<T> comparator) {
+        int lt = start;
+        int i = start;
+        int gt = end;
+        while (i <= gt) {
+            int cmp = comparator.compare(arr[i], pivot);
+            if (cmp < 0) {
+                swap(arr, lt++, i++);
+            } else if (cmp > 0) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | gt;
     }
 
     /**
@@ -97,7 +518,8 @@ public class MyQuickSort extends GTUSorter {
     }
 
     /**
-     * Partitions the array around a pivot.
+     * Partitions the array around a pivot. The pivot is the last element of
+     * the range. Shared with MyParallelQuickSort.
      *
      * @param arr The array to be partitioned.
      * @param start The starting index of the subarray to be partitioned.
@@ -106,7 +528,7 @@ public class MyQuickSort extends GTUSorter {
      * @param <T> The type of elements in the array.
      * @return The index of the pivot after partitioning.
      */
-    private <T> int partition(T[] arr, int start, int end, Comparator<T> comparator) {
+    static <T> int partition(T[] arr, int start, int end, Comparator<T> comparator) {
         T pivot = arr[end];
         int i = start;
         for (int j = start; j < end; j++) {
@@ -127,7 +549,7 @@ public class MyQuickSort extends GTUSorter {
      * @param j The index of the second element.
      * @param <T> The type of elements in the array.
      */
-    private <T> void swap(T[] arr, int i, int j) {
+    static <T> void swap(T[] arr, int i, int j) {
         if (i != j) {
             T temp = arr[i];
             arr[i] = arr[j];
@@ -0,0 +1,297 @@
+package DSA.Sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+/**
+ * MyRadixSort is a non-comparison GTUSorter for integer keys. When the keys
+ * span a small range (at most the number of elements, or COUNTING_LIMIT) a
+ * single counting pass is used; otherwise the keys are sorted with an LSD
+ * radix sort on 8-bit digits, skipping the high digits that are the same for
+ * every key. Both run in O(n + range) or O(n * digits) and are stable.
+ *
+ * Keys are taken from the int[] and long[] entry points directly, or from an
+ * element with the ToIntFunction entry point. The comparator entry point has
+ * no key to work with, so it falls back to a stable merge sort.
+ */
+public class MyRadixSort extends GTUSorter {
+
+    /**
+     * Key ranges up to this size always use a counting pass.
+     */
+    public static final int COUNTING_LIMIT = 1 << 16;
+
+    /**
+     * Bits per radix digit.
+     */
+    private static final int DIGIT_BITS = 8;
+
+    /**
+     * Number of buckets per radix pass.
+     */
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+
+    /**
+     * Mask of the lowest digit.
+     */
+    private static final int DIGIT_MASK = BUCKETS - 1;
+
+    /**
+     * Counting and radix sort keep equal keys in their original order.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    /**
+     * Sorts the given range by key. Every key is extracted once.
+     *
+     * Complexity: O(n + range) for a counting pass, O(n * digits) otherwise.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     * @param key Extracts the sort key of an element.
+     * @param <T> The type of elements in the array.
+     */
+    @Override
+    protected <T> void sort(T[] arr, int start, int end, ToIntFunction<? super T> key) {
+        int length = end - start;
+        if (length <= 1) {
+            return;
+        }
+
+        int[] keys = new int[length];
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            keys[i] = key.applyAsInt(arr[start + i]);
+            min = Math.min(min, keys[i]);
+            max = Math.max(max, keys[i]);
+        }
+
+        Object[] buffer = new Object[length];
+        long range = (long) max - min + 1;
+        if (range <= Math.max(length, COUNTING_LIMIT)) {
+            int[] count = new int[(int) range + 1];
+            for (int i = 0; i < length; i++) {
+                count[keys[i] - min + 1]++;
+            }
+            for (int i = 1; i < count.length; i++) {
+                count[i] += count[i - 1];
+            }
+            for (int i = 0; i < length; i++) {
+                buffer[count[keys[i] - min]++] = arr[start + i];
+            }
+            System.arraycopy(buffer, 0, arr, start, length);
+            return;
+        }
+
+        // Radix passes on key - min, read as unsigned.
+        Object[] from = new Object[length];
+        System.arraycopy(arr, start, from, 0, length);
+        Object[] to = buffer;
+        int[] fromKeys = keys;
+        int[] toKeys = new int[length];
+        for (int i = 0; i < length; i++) {
+            fromKeys[i] -= min;
+        }
+        int spread = max - min;
+        int[] count = new int[BUCKETS + 1];
+        for (int shift = 0; shift < Integer.SIZE && (spread >>> shift) != 0; shift += DIGIT_BITS) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < length; i++) {
+                count[((fromKeys[i] >>> shift) & DIGIT_MASK) + 1]++;
+            }
+            for (int i = 1; i <= BUCKETS; i++) {
+                count[i] += count[i - 1];
+            }
+            for (int i = 0; i < length; i++) {
+                int target = count[(fromKeys[i] >>> shift) & DIGIT_MASK]++;
+                to[target] = from[i];
+                toKeys[target] = fromKeys[i];
+            }
+
+            Object[] swapElements = from;
+            from = to;
+            to = swapElements;
+            int[] swapKeys = fromKeys;
+            fromKeys = toKeys;
+            toKeys = swapKeys;
+        }
+        System.arraycopy(from, 0, arr, start, length);
+    }
+
+    /**
+     * Sorts an int array. Small value ranges are counted, larger ones are
+     * radix sorted.
+     *
+     * Complexity: O(n + range) for a counting pass, O(n * digits) otherwise.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     */
+    @Override
+    protected void sort(int[] arr, int start, int end) {
+        int length = end - start;
+        if (length <= 1) {
+            return;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = start; i < end; i++) {
+            min = Math.min(min, arr[i]);
+            max = Math.max(max, arr[i]);
+        }
+
+        long range = (long) max - min + 1;
+        if (range <= Math.max(length, COUNTING_LIMIT)) {
+            int[] count = new int[(int) range];
+            for (int i = start; i < end; i++) {
+                count[arr[i] - min]++;
+            }
+            int write = start;
+            for (int offset = 0; offset < count.length; offset++) {
+                Arrays.fill(arr, write, write + count[offset], min + offset);
+                write += count[offset];
+            }
+            return;
+        }
+
+        int[] from = new int[length];
+        for (int i = 0; i < length; i++) {
+            from[i] = arr[start + i] - min;
+        }
+        int[] to = new int[length];
+        int spread = max - min;
+        int[] count = new int[BUCKETS + 1];
+        for (int shift = 0; shift < Integer.SIZE && (spread >>> shift) != 0; shift += DIGIT_BITS) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < length; i++) {
+                count[((from[i] >>> shift) & DIGIT_MASK) + 1]++;
+            }
+            for (int i = 1; i <= BUCKETS; i++) {
+                count[i] += count[i - 1];
+            }
+            for (int i = 0; i < length; i++) {
+                to[count[(from[i] >>> shift) & DIGIT_MASK]++] = from[i];
+            }
+
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+        for (int i = 0; i < length; i++) {
+            arr[start + i] = from[i] + min;
+        }
+    }
+
+    /**
+     * Sorts a long array with LSD radix passes on value - min, read as
+     * unsigned, so only the digits that differ between keys are visited.
+     *
+     * Complexity: O(n * digits)
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     */
+    @Override
+    protected void sort(long[] arr, int start, int end) {
+        int length = end - start;
+        if (length <= 1) {
+            return;
+        }
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = start; i < end; i++) {
+            min = Math.min(min, arr[i]);
+            max = Math.max(max, arr[i]);
+        }
+
+        long[] from = new long[length];
+        for (int i = 0; i < length; i++) {
+            from[i] = arr[start + i] - min;
+        }
+        long[] to = new long[length];
+        long spread = max - min;
+        int[] count = new int[BUCKETS + 1];
+        for (int shift = 0; shift < Long.SIZE && (spread >>> shift) != 0; shift += DIGIT_BITS) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < length; i++) {
+                count[(int) ((from[i] >>> shift) & DIGIT_MASK) + 1]++;
+            }
+            for (int i = 1; i <= BUCKETS; i++) {
+                count[i] += count[i - 1];
+            }
+            for (int i = 0; i < length; i++) {
+                to[count[(int) ((from[i] >>> shift) & DIGIT_MASK)]++] = from[i];
+            }
+
+            long[] swap = from;
+            from = to;
+            to = swap;
+        }
+        for (int i = 0; i < length; i++) {
+            arr[start + i] = from[i] + min;
+        }
+    }
+
+    /**
+     * Without a key only comparisons are possible, so this method falls back
+     * to a stable merge sort.
+     *
+     * Complexity: O(n log n)
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     * @param comparator The comparator to determine the order of the elements.
+     * @param <T> The type of elements in the array.
+     */
+    @Override
+    protected <T> void sort(T[] arr, int start, int end, Comparator<T> comparator) {
+        if (end - start <= 1) {
+            return;
+        }
+        T[] copy = Arrays.copyOfRange(arr, start, end);
+        long moves = mergeSort(copy, 0, arr, start, end - start, comparator);
+        probe().moves(end - start + moves);
+    }
+
+    /**
+     * Sorts src[srcStart, srcStart + length) into dest[destStart, destStart +
+     * length). Both ranges must hold the same elements on entry; they are
+     * used alternately as the merge buffer. Returns the number of element
+     * writes.
+     */
+    private static <T> long mergeSort(T[] src, int srcStart, T[] dest, int destStart, int length, Comparator<T> comparator) {
+        if (length <= 1) {
+            return 0;
+        }
+
+        int half = length / 2;
+        long moves = mergeSort(dest, destStart, src, srcStart, half, comparator)
+                + mergeSort(dest, destStart + half, src, srcStart + half, length - half, comparator);
+
+        int i = srcStart;
+        int mid = srcStart + half;
+        int j = mid;
+        int srcEnd = srcStart + length;
+        for (int k = destStart; k < destStart + length; k++) {
+            if (j >= srcEnd || (i < mid && comparator.compare(src[i], src[j]) <= 0)) {
+                dest[k] = src[i++];
+            } else {
+                dest[k] = src[j++];
+            }
+        }
+        return moves + length;
+    }
+}
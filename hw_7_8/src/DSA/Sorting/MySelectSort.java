@@ -31,6 +31,55 @@ public class MySelectSort extends GTUSorter {
             }
             swap(arr, i, minIndex);
         }
+        probe().moves(2L * Math.max(end - start - 1, 0));
+    }
+
+    /**
+     * Selection sort on a int array.
+     *
+     * complexity: O(n^2)
+     *
+     * @param arr the array to be sorted
+     * @param start the starting index of the subarray
+     * @param end the ending index of the subarray (exclusive)
+     */
+    @Override
+    protected void sort(int[] arr, int start, int end) {
+        for (int i = start; i < end - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < end; j++) {
+                if (arr[j] < arr[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            int temp = arr[i];
+            arr[i] = arr[minIndex];
+            arr[minIndex] = temp;
+        }
+    }
+
+    /**
+     * Selection sort on a long array.
+     *
+     * complexity: O(n^2)
+     *
+     * @param arr the array to be sorted
+     * @param start the starting index of the subarray
+     * @param end the ending index of the subarray (exclusive)
+     */
+    @Override
+    protected void sort(long[] arr, int start, int end) {
+        for (int i = start; i < end - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < end; j++) {
+                if (arr[j] < arr[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            long temp = arr[i];
+            arr[i] = arr[minIndex];
+            arr[minIndex] = temp;
+        }
     }
 
     /**
@@ -0,0 +1,862 @@
+package DSA.Sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * MyTimSort is a stable, run-adaptive merge sort in the style of TimSort.
+ * The input is scanned for natural runs (strictly descending runs are
+ * reversed in place); runs shorter than a minimum length are extended with
+ * binary insertion sort. Runs are kept on a stack and merged so that their
+ * lengths stay balanced, and merges switch to galloping (exponential search)
+ * when one run keeps winning, so long stretches are moved with bulk copies.
+ *
+ * On input that is already sorted, or made of a few sorted blocks, the cost
+ * approaches O(n); the worst case is O(n log n).
+ */
+public class MyTimSort extends GTUSorter {
+
+    /**
+     * Inputs shorter than this are sorted with binary insertion sort alone.
+     * It is also the upper bound of the minimum run length.
+     */
+    private static final int MIN_MERGE = 32;
+
+    /**
+     * Number of consecutive wins after which a merge starts galloping.
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * Run stack capacity. The stack invariants keep run lengths growing at
+     * least as fast as the Fibonacci numbers, so this is enough for any
+     * array length.
+     */
+    private static final int MAX_RUNS = 49;
+
+    /**
+     * Merging only moves an element of the right run ahead of strictly
+     * larger elements of the left run, so the sort is stable.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    /**
+     * Sorts the given range with TimSort.
+     *
+     * Complexity: O(n) on presorted input, O(n log n) in the worst case.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     * @param comparator The comparator to determine the order of the elements.
+     * @param <T> The type of elements in the array.
+     */
+    @Override
+    protected <T> void sort(T[] arr, int start, int end, Comparator<T> comparator) {
+        int length = end - start;
+        if (length < 2) {
+            return;
+        }
+
+        if (length < MIN_MERGE) {
+            int runLength = countRun(arr, start, end, comparator);
+            binarySort(arr, start, end, start + runLength, comparator);
+            return;
+        }
+
+        GallopingMerger<T> runs = new GallopingMerger<>(arr, comparator, probe());
+        int minRun = minRunLength(length);
+        int low = start;
+        while (low < end) {
+            int runLength = countRun(arr, low, end, comparator);
+            if (runLength < minRun) {
+                int forced = Math.min(end - low, minRun);
+                binarySort(arr, low, low + forced, low + runLength, comparator);
+                runLength = forced;
+            }
+            runs.push(low, runLength);
+            low += runLength;
+        }
+        runs.mergeAll();
+    }
+
+    /**
+     * Sorts a int array with TimSort. Stability does not matter for
+     * primitives, so merges only trim the runs with a binary search and then
+     * merge linearly, without galloping.
+     *
+     * Complexity: O(n) on presorted input, O(n log n) in the worst case.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     */
+    @Override
+    protected void sort(int[] arr, int start, int end) {
+        int length = end - start;
+        if (length < 2) {
+            return;
+        }
+
+        if (length < MIN_MERGE) {
+            int runLength = countRun(arr, start, end);
+            binarySort(arr, start, end, start + runLength);
+            return;
+        }
+
+        IntMerger runs = new IntMerger(arr);
+        int minRun = minRunLength(length);
+        int low = start;
+        while (low < end) {
+            int runLength = countRun(arr, low, end);
+            if (runLength < minRun) {
+                int forced = Math.min(end - low, minRun);
+                binarySort(arr, low, low + forced, low + runLength);
+                runLength = forced;
+            }
+            runs.push(low, runLength);
+            low += runLength;
+        }
+        runs.mergeAll();
+    }
+
+    /**
+     * Sorts a long array with TimSort. Stability does not matter for
+     * primitives, so merges only trim the runs with a binary search and then
+     * merge linearly, without galloping.
+     *
+     * Complexity: O(n) on presorted input, O(n log n) in the worst case.
+     *
+     * @param arr The array to be sorted.
+     * @param start The starting index of the subarray to be sorted.
+     * @param end The ending index of the subarray to be sorted.
+     */
+    @Override
+    protected void sort(long[] arr, int start, int end) {
+        int length = end - start;
+        if (length < 2) {
+            return;
+        }
+
+        if (length < MIN_MERGE) {
+            int runLength = countRun(arr, start, end);
+            binarySort(arr, start, end, start + runLength);
+            return;
+        }
+
+        LongMerger runs = new LongMerger(arr);
+        int minRun = minRunLength(length);
+        int low = start;
+        while (low < end) {
+            int runLength = countRun(arr, low, end);
+            if (runLength < minRun) {
+                int forced = Math.min(end - low, minRun);
+                binarySort(arr, low, low + forced, low + runLength);
+                runLength = forced;
+            }
+            runs.push(low, runLength);
+            low += runLength;
+        }
+        runs.mergeAll();
+    }
+
+    /**
+     * Returns the minimum run length for an input of the given length: a
+     * value in [MIN_MERGE / 2, MIN_MERGE] such that length / minRun is a
+     * power of two or slightly less, which keeps the final merges balanced.
+     */
+    private static int minRunLength(int length) {
+        int extra = 0;
+        while (length >= MIN_MERGE) {
+            extra |= length & 1;
+            length >>= 1;
+        }
+        return length + extra;
+    }
+
+    /**
+     * Returns the length of the run starting at low, reversing it first if
+     * it is strictly descending.
+     */
+    private <T> int countRun(T[] arr, int low, int high, Comparator<T> comparator) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+
+        if (comparator.compare(arr[runHigh++], arr[low]) < 0) {
+            while (runHigh < high && comparator.compare(arr[runHigh], arr[runHigh - 1]) < 0) {
+                runHigh++;
+            }
+            for (int i = low, j = runHigh - 1; i < j; i++, j--) {
+                T temp = arr[i];
+                arr[i] = arr[j];
+                arr[j] = temp;
+            }
+            probe().moves(runHigh - low);
+        } else {
+            while (runHigh < high && comparator.compare(arr[runHigh], arr[runHigh - 1]) >= 0) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    /**
+     * Sorts arr[low, high) with binary insertion, given that arr[low, sorted)
+     * is already sorted. Equal elements are inserted after existing ones.
+     */
+    private <T> void binarySort(T[] arr, int low, int high, int sorted, Comparator<T> comparator) {
+        long moves = 0;
+        for (int i = sorted; i < high; i++) {
+            T pivot = arr[i];
+            int left = low;
+            int right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, arr[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(arr, left, arr, left + 1, i - left);
+            arr[left] = pivot;
+            moves += i - left + 1;
+        }
+        probe().moves(moves);
+    }
+
+    /**
+     * int version of countRun.
+     */
+    private static int countRun(int[] arr, int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+
+        if (arr[runHigh++] < arr[low]) {
+            while (runHigh < high && arr[runHigh] < arr[runHigh - 1]) {
+                runHigh++;
+            }
+            reverse(arr, low, runHigh);
+        } else {
+            while (runHigh < high && arr[runHigh] >= arr[runHigh - 1]) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    /**
+     * int version of binarySort.
+     */
+    private static void binarySort(int[] arr, int low, int high, int sorted) {
+        for (int i = sorted; i < high; i++) {
+            int pivot = arr[i];
+            int left = low;
+            int right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (pivot < arr[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(arr, left, arr, left + 1, i - left);
+            arr[left] = pivot;
+        }
+    }
+
+    /**
+     * long version of countRun.
+     */
+    private static int countRun(long[] arr, int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+
+        if (arr[runHigh++] < arr[low]) {
+            while (runHigh < high && arr[runHigh] < arr[runHigh - 1]) {
+                runHigh++;
+            }
+            reverse(arr, low, runHigh);
+        } else {
+            while (runHigh < high && arr[runHigh] >= arr[runHigh - 1]) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    /**
+     * long version of binarySort.
+     */
+    private static void binarySort(long[] arr, int low, int high, int sorted) {
+        for (int i = sorted; i < high; i++) {
+            long pivot = arr[i];
+            int left = low;
+            int right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (pivot < arr[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(arr, left, arr, left + 1, i - left);
+            arr[left] = pivot;
+        }
+    }
+
+    /**
+     * Stack of pending runs. Whenever a run is pushed, runs are merged until
+     * every run is longer than the next two combined, and longer than the
+     * next one; the element type specific merge is left to subclasses.
+     */
+    private abstract static class RunStack {
+        private final int[] runBase = new int[MAX_RUNS];
+        private final int[] runLength = new int[MAX_RUNS];
+        private int stackSize = 0;
+
+        /**
+         * Push a run and restore the stack invariants.
+         */
+        void push(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if ((n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1])
+                        || (n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1])) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merge all remaining runs into one.
+         */
+        void mergeAll() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merge runs i and i + 1 of the stack.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            merge(base1, length1, base2, length2);
+        }
+
+        /**
+         * Merge the adjacent sorted runs arr[base1, base1 + length1) and
+         * arr[base2, base2 + length2).
+         */
+        abstract void merge(int base1, int length1, int base2, int length2);
+    }
+
+    /**
+     * Run stack for object arrays, merging with galloping.
+     */
+    private static final class GallopingMerger<T> extends RunStack {
+        private final T[] arr;
+        private final Comparator<T> comparator;
+        private final SortProbe probe;
+        private T[] tmp;
+        private int minGallop = MIN_GALLOP;
+
+        GallopingMerger(T[] arr, Comparator<T> comparator, SortProbe probe) {
+            this.arr = arr;
+            this.comparator = comparator;
+            this.probe = probe;
+        }
+
+        @Override
+        void merge(int base1, int length1, int base2, int length2) {
+            // Elements of run 1 that are not larger than the first element of
+            // run 2 are already in place, and so are elements of run 2 that
+            // are not smaller than the last element of run 1.
+            int skipped = gallopRight(arr[base2], arr, base1, length1, 0);
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0) {
+                return;
+            }
+            length2 = gallopLeft(arr[base1 + length1 - 1], arr, base2, length2, length2 - 1);
+            if (length2 == 0) {
+                return;
+            }
+
+            // The shorter run is buffered, then every merged position is written.
+            probe.moves(length1 + length2 + Math.min(length1, length2));
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merge from the left, buffering run 1. Requires length1 <= length2,
+         * arr[base2] < arr[base1] and the last element of run 1 to be larger
+         * than every element of run 2.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            ensureCapacity(length1);
+            System.arraycopy(arr, base1, tmp, 0, length1);
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int dest = base1;
+
+            arr[dest++] = arr[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(tmp, cursor1, arr, dest, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(arr, cursor2, arr, dest, length2);
+                arr[dest + length2] = tmp[cursor1];
+                return;
+            }
+
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                // One element at a time until one run wins consistently.
+                do {
+                    if (comparator.compare(arr[cursor2], tmp[cursor1]) < 0) {
+                        arr[dest++] = arr[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        arr[dest++] = tmp[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                // Gallop: find where the next element of one run goes in the
+                // other and copy everything before it in bulk.
+                do {
+                    count1 = gallopRight(arr[cursor2], tmp, cursor1, length1, 0);
+                    if (count1 != 0) {
+                        System.arraycopy(tmp, cursor1, arr, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    arr[dest++] = arr[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+
+                    count2 = gallopLeft(tmp[cursor1], arr, cursor2, length2, 0);
+                    if (count2 != 0) {
+                        System.arraycopy(arr, cursor2, arr, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    arr[dest++] = tmp[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+                gallop = Math.max(gallop, 0) + 2;
+            }
+            minGallop = Math.max(gallop, 1);
+
+            if (length1 == 1) {
+                System.arraycopy(arr, cursor2, arr, dest, length2);
+                arr[dest + length2] = tmp[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("Comparator violates its general contract");
+            } else {
+                System.arraycopy(tmp, cursor1, arr, dest, length1);
+            }
+        }
+
+        /**
+         * Merge from the right, buffering run 2. Requires length1 > length2
+         * and the same ordering conditions as mergeLow.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            ensureCapacity(length2);
+            System.arraycopy(arr, base2, tmp, 0, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+
+            arr[dest--] = arr[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(tmp, 0, arr, dest - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(arr, cursor1 + 1, arr, dest + 1, length1);
+                arr[dest] = tmp[cursor2];
+                return;
+            }
+
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                do {
+                    if (comparator.compare(tmp[cursor2], arr[cursor1]) < 0) {
+                        arr[dest--] = arr[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        arr[dest--] = tmp[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                do {
+                    count1 = length1 - gallopRight(tmp[cursor2], arr, base1, length1, length1 - 1);
+                    if (count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        System.arraycopy(arr, cursor1 + 1, arr, dest + 1, count1);
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    arr[dest--] = tmp[cursor2--];
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+
+                    count2 = length2 - gallopLeft(arr[cursor1], tmp, 0, length2, length2 - 1);
+                    if (count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        System.arraycopy(tmp, cursor2 + 1, arr, dest + 1, count2);
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    arr[dest--] = arr[cursor1--];
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+                gallop = Math.max(gallop, 0) + 2;
+            }
+            minGallop = Math.max(gallop, 1);
+
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(arr, cursor1 + 1, arr, dest + 1, length1);
+                arr[dest] = tmp[cursor2];
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException("Comparator violates its general contract");
+            } else {
+                System.arraycopy(tmp, 0, arr, dest - (length2 - 1), length2);
+            }
+        }
+
+        /**
+         * Returns the index k in [0, length] such that a[base + k - 1] < key
+         * <= a[base + k], searching outwards from base + hint.
+         */
+        private int gallopLeft(T key, T[] a, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            if (comparator.compare(key, a[base + hint]) > 0) {
+                int maxOffset = length - hint;
+                while (offset < maxOffset && comparator.compare(key, a[base + hint + offset]) > 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                lastOffset += hint;
+                offset += hint;
+            } else {
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && comparator.compare(key, a[base + hint - offset]) <= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            }
+
+            // Binary search in (lastOffset, offset].
+            lastOffset++;
+            while (lastOffset < offset) {
+                int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (comparator.compare(key, a[base + mid]) > 0) {
+                    lastOffset = mid + 1;
+                } else {
+                    offset = mid;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Returns the index k in [0, length] such that a[base + k - 1] <= key
+         * < a[base + k], searching outwards from base + hint.
+         */
+        private int gallopRight(T key, T[] a, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            if (comparator.compare(key, a[base + hint]) < 0) {
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && comparator.compare(key, a[base + hint - offset]) < 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            } else {
+                int maxOffset = length - hint;
+                while (offset < maxOffset && comparator.compare(key, a[base + hint + offset]) >= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                lastOffset += hint;
+                offset += hint;
+            }
+
+            lastOffset++;
+            while (lastOffset < offset) {
+                int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (comparator.compare(key, a[base + mid]) < 0) {
+                    offset = mid;
+                } else {
+                    lastOffset = mid + 1;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Grow the merge buffer to hold at least the given number of elements.
+         */
+        private void ensureCapacity(int capacity) {
+            if (tmp == null || tmp.length < capacity) {
+                int newLength = Math.max(capacity, tmp == null ? 0 : Math.min(2 * tmp.length, arr.length / 2 + 1));
+                tmp = Arrays.copyOf(arr, newLength);
+            }
+        }
+    }
+
+    /**
+     * Run stack for int arrays.
+     */
+    private static final class IntMerger extends RunStack {
+        private final int[] arr;
+        private int[] tmp = new int[0];
+
+        IntMerger(int[] arr) {
+            this.arr = arr;
+        }
+
+        @Override
+        void merge(int base1, int length1, int base2, int length2) {
+            // Skip the prefix of run 1 and the suffix of run 2 that are in place.
+            int end2 = base2 + length2;
+            int first = upperBound(arr, base1, base2, arr[base2]);
+            int last = lowerBound(arr, base2, end2, arr[base2 - 1]);
+            if (first == base2 || last == base2) {
+                return;
+            }
+
+            length1 = base2 - first;
+            if (tmp.length < length1) {
+                tmp = new int[Math.max(length1, Math.min(2 * tmp.length, arr.length / 2 + 1))];
+            }
+            System.arraycopy(arr, first, tmp, 0, length1);
+
+            int i = 0;
+            int j = base2;
+            int dest = first;
+            while (i < length1 && j < last) {
+                arr[dest++] = tmp[i] <= arr[j] ? tmp[i++] : arr[j++];
+            }
+            System.arraycopy(tmp, i, arr, dest, length1 - i);
+        }
+
+        /**
+         * First index in [low, high) whose value is larger than key.
+         */
+        private static int upperBound(int[] arr, int low, int high, int key) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (arr[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * First index in [low, high) whose value is not smaller than key.
+         */
+        private static int lowerBound(int[] arr, int low, int high, int key) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (arr[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Run stack for long arrays.
+     */
+    private static final class LongMerger extends RunStack {
+        private final long[] arr;
+        private long[] tmp = new long[0];
+
+        LongMerger(long[] arr) {
+            this.arr = arr;
+        }
+
+        @Override
+        void merge(int base1, int length1, int base2, int length2) {
+            // Skip the prefix of run 1 and the suffix of run 2 that are in place.
+            int end2 = base2 + length2;
+            int first = upperBound(arr, base1, base2, arr[base2]);
+            int last = lowerBound(arr, base2, end2, arr[base2 - 1]);
+            if (first == base2 || last == base2) {
+                return;
+            }
+
+            length1 = base2 - first;
+            if (tmp.length < length1) {
+                tmp = new long[Math.max(length1, Math.min(2 * tmp.length, arr.length / 2 + 1))];
+            }
+            System.arraycopy(arr, first, tmp, 0, length1);
+
+            int i = 0;
+            int j = base2;
+            int dest = first;
+            while (i < length1 && j < last) {
+                arr[dest++] = tmp[i] <= arr[j] ? tmp[i++] : arr[j++];
+            }
+            System.arraycopy(tmp, i, arr, dest, length1 - i);
+        }
+
+        /**
+         * First index in [low, high) whose value is larger than key.
+         */
+        private static int upperBound(long[] arr, int low, int high, long key) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (arr[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * First index in [low, high) whose value is not smaller than key.
+         */
+        private static int lowerBound(long[] arr, int low, int high, long key) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (arr[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package DSA.Sorting;
+
+/**
+ * Receiver of the operation counts of a GTUSorter. Sorters report in bulk
+ * (once per pass, partition or merge rather than once per element), so a
+ * probe is cheap enough to leave attached. A probe may be called from
+ * several threads at once by parallel sorters.
+ *
+ * Counts are reported by the comparator-based sort and by the primitive
+ * quicksorts; the other primitive and key entry points do not report.
+ */
+public interface SortProbe {
+
+    /**
+     * A probe that ignores everything.
+     */
+    SortProbe NONE = new SortProbe() {
+    };
+
+    /**
+     * Called with a number of element writes, into the array being sorted or
+     * into a buffer. A swap counts as two writes.
+     *
+     * @param count Number of writes.
+     */
+    default void moves(long count) {
+    }
+
+    /**
+     * Called with a number of key comparisons made by a primitive sort, which
+     * has no comparator to count them through. Comparator-based sorts do not
+     * call this.
+     *
+     * @param count Number of comparisons.
+     */
+    default void comparisons(long count) {
+    }
+
+    /**
+     * Called once for every partitioning step of a quicksort.
+     *
+     * @param depth Recursion depth of the partitioned range, 0 for the whole
+     * array.
+     * @param length Number of elements in the partitioned range.
+     */
+    default void partition(int depth, int length) {
+    }
+}
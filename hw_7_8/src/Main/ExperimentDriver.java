@@ -0,0 +1,309 @@
+package Main;
+
+import DSA.Graphs.EdgeListParser;
+import DSA.Graphs.GCA.GCASolution;
+import DSA.Graphs.GCA.GreedyGCA;
+import DSA.Graphs.GTUGraph;
+import DSA.Graphs.MatrixGraph.MatrixGraph;
+import DSA.Sorting.GTUSorter;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the experiments of Main concurrently. Every (input, sorter, task)
+ * combination is a separate job: parsing and writing files run on two small
+ * I/O pools, sorting and coloring run on a compute pool with one thread per
+ * processor. A job starts as soon as the jobs it depends on are done, so the
+ * output of one sorter is written while the next one is still sorting.
+ * Writes have a pool of their own, so they never wait behind parsing.
+ *
+ * Only a few inputs are in flight at once: an input is parsed once a permit
+ * is free, and its graph is released with the permit when its last job is
+ * done. Memory therefore does not grow with the number of input files.
+ *
+ * The output files are the same as the ones written by Main. With more than
+ * one input file, the outputs of each input are prefixed with the input file
+ * name. A wall-clock summary of every job is printed at the end.
+ */
+public class ExperimentDriver {
+
+    /**
+     * Number of threads that parse files, and of threads that write them.
+     */
+    public static final int DEFAULT_IO_THREADS = 2;
+
+    /**
+     * Number of inputs whose graphs are kept in memory at once.
+     */
+    public static final int DEFAULT_MAX_INPUTS = 2;
+
+    /**
+     * Timing record of one job. The fields are written by the worker thread
+     * and read after all jobs have completed.
+     */
+    private static final class Job {
+        private final String input;
+        private final String name;
+        private volatile long nanos = -1;
+        private volatile String error;
+
+        Job(String input, String name) {
+            this.input = input;
+            this.name = name;
+        }
+    }
+
+    /**
+     * Input of one graph file, shared read-only by the jobs of that file.
+     */
+    private static final class Input {
+        private final GTUGraph graph;
+        private final int[] sums;
+
+        Input(GTUGraph graph, int[] sums) {
+            this.graph = graph;
+            this.sums = sums;
+        }
+    }
+
+    private final ExecutorService computePool;
+    private final ExecutorService parsePool;
+    private final ExecutorService writePool;
+    private final Semaphore inputPermits;
+    private final List<Job> jobs = new ArrayList<>();
+
+    /**
+     * Creates a driver with its own thread pools that keeps at most
+     * DEFAULT_MAX_INPUTS inputs in memory. Call close() when done.
+     * @param computeThreads Number of threads for sorting and coloring.
+     * @param ioThreads Number of threads for parsing files, and for writing
+     * them.
+     * @throws IllegalArgumentException if a thread count is not positive.
+     */
+    public ExperimentDriver(int computeThreads, int ioThreads) {
+        this(computeThreads, ioThreads, DEFAULT_MAX_INPUTS);
+    }
+
+    /**
+     * Creates a driver with its own thread pools. Call close() when done.
+     * @param computeThreads Number of threads for sorting and coloring.
+     * @param ioThreads Number of threads for parsing files, and for writing
+     * them.
+     * @param maxInputs Number of inputs whose graphs are kept in memory at
+     * once.
+     * @throws IllegalArgumentException if a count is not positive.
+     */
+    public ExperimentDriver(int computeThreads, int ioThreads, int maxInputs) {
+        if (computeThreads <= 0 || ioThreads <= 0 || maxInputs <= 0) {
+            throw new IllegalArgumentException("Thread and input counts must be positive");
+        }
+        this.computePool = Executors.newFixedThreadPool(computeThreads, daemonThreads("experiment-compute"));
+        this.parsePool = Executors.newFixedThreadPool(ioThreads, daemonThreads("experiment-parse"));
+        this.writePool = Executors.newFixedThreadPool(ioThreads, daemonThreads("experiment-write"));
+        this.inputPermits = new Semaphore(maxInputs);
+    }
+
+    /**
+     * Run all jobs for the given input files and wait for them to finish.
+     * Failed jobs are reported on stderr; jobs that depend on a failed job
+     * are skipped. Blocks while the maximum number of inputs is in flight.
+     * @param inputPaths Graph files to process.
+     * @param outputPath Prefix of the output files.
+     * @return true if every job succeeded.
+     */
+    public boolean run(List<String> inputPaths, String outputPath) {
+        Map<String, Supplier<GTUSorter>> sorters = Main.sorterFactories();
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+
+        boolean interrupted = false;
+        for (String inputPath : inputPaths) {
+            String prefix = inputPaths.size() == 1 ? outputPath : outputPath + baseName(inputPath) + "_";
+            try {
+                inputPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+                break;
+            }
+            List<CompletableFuture<?>> inputPending = new ArrayList<>();
+
+            CompletableFuture<Input> input = submit(parsePool, job(inputPath, "parse"), () -> {
+                GTUGraph graph = new MatrixGraph();
+                Main.GraphAndSums sink = new Main.GraphAndSums(graph);
+                new EdgeListParser().parse(inputPath, sink);
+                return new Input(graph, sink.getSums());
+            });
+
+            for (Map.Entry<String, Supplier<GTUSorter>> entry : sorters.entrySet()) {
+                String name = entry.getKey();
+                Supplier<GTUSorter> factory = entry.getValue();
+
+                Job sortJob = job(inputPath, name);
+                Job sortWriteJob = job(inputPath, name + ".txt");
+                CompletableFuture<int[]> sorted = input.thenCompose(in -> submit(computePool, sortJob, () -> {
+                    int[] values = Arrays.copyOf(in.sums, in.sums.length);
+                    factory.get().sortDescending(values);
+                    return values;
+                }));
+                inputPending.add(sorted.thenCompose(values -> submit(writePool, sortWriteJob, () -> {
+                    Main.writeInts(prefix + name + ".txt", values);
+                    return null;
+                })));
+
+                Job colorJob = job(inputPath, name + "_color");
+                Job colorWriteJob = job(inputPath, name + "_color.txt");
+                CompletableFuture<GCASolution> colored = input.thenCompose(in -> submit(computePool, colorJob,
+                        () -> GreedyGCA.solve(in.graph, factory.get())));
+                inputPending.add(colored.thenCompose(solution -> submit(writePool, colorWriteJob, () -> {
+                    if (!solution.writeSolution(prefix + name + "_color.txt")) {
+                        throw new IOException("Could not write " + prefix + name + "_color.txt");
+                    }
+                    return null;
+                })));
+            }
+
+            Job graphJob = job(inputPath, "graph.txt");
+            inputPending.add(input.thenCompose(in -> submit(writePool, graphJob, () -> {
+                if (!GTUGraph.writeGraph(prefix + "graph.txt", in.graph)) {
+                    throw new IOException("Could not write " + prefix + "graph.txt");
+                }
+                return null;
+            })));
+
+            // The graph stays reachable until the last job of this input is done.
+            CompletableFuture.allOf(inputPending.toArray(new CompletableFuture<?>[0]))
+                    .whenComplete((result, error) -> inputPermits.release());
+            pending.addAll(inputPending);
+        }
+
+        // Failures are recorded per job, so completion order does not matter here.
+        for (CompletableFuture<?> future : pending) {
+            future.handle((result, error) -> null).join();
+        }
+
+        boolean success = !interrupted;
+        for (Job job : jobs) {
+            if (job.error != null) {
+                System.err.printf("Error: %s\n", job.error);
+                success = false;
+            } else if (job.nanos < 0) {
+                success = false;
+            }
+        }
+        return success;
+    }
+
+    /**
+     * Print the wall-clock time of every job, in submission order.
+     */
+    public void printSummary() {
+        System.out.printf("%-24s %-36s %12s%n", "input", "job", "time (ms)");
+        for (Job job : jobs) {
+            String time;
+            if (job.error != null) {
+                time = "failed";
+            } else if (job.nanos < 0) {
+                time = "skipped";
+            } else {
+                time = String.format("%.1f", job.nanos / 1e6);
+            }
+            System.out.printf("%-24s %-36s %12s%n", baseName(job.input), job.name, time);
+        }
+    }
+
+    /**
+     * Shut down the thread pools.
+     */
+    public void close() {
+        computePool.shutdown();
+        parsePool.shutdown();
+        writePool.shutdown();
+    }
+
+    /**
+     * Register a job for the summary.
+     */
+    private Job job(String input, String name) {
+        Job job = new Job(input, name);
+        jobs.add(job);
+        return job;
+    }
+
+    /**
+     * Run body on the executor, recording its wall-clock time in job.
+     */
+    private static <T> CompletableFuture<T> submit(ExecutorService executor, Job job, Callable<T> body) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                T result = body.call();
+                job.nanos = System.nanoTime() - start;
+                return result;
+            } catch (Exception e) {
+                job.error = job.name + " (" + job.input + "): " + e.getMessage();
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * File name of a path without its extension.
+     */
+    private static String baseName(String path) {
+        String name = Paths.get(path).getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    /**
+     * Thread factory for named daemon threads.
+     */
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Run the experiments concurrently. Exits with status 1 if a job failed
+     * or was skipped, so scripted runs can detect it.
+     * @param args Input files followed by the output path.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Error: Too few arguments. (Expected: <int:input_file>... <String:output_path>)");
+            return;
+        }
+
+        List<String> inputs = Arrays.asList(args).subList(0, args.length - 1);
+        ExperimentDriver driver = new ExperimentDriver(Runtime.getRuntime().availableProcessors(), DEFAULT_IO_THREADS);
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            success = driver.run(inputs, args[args.length - 1]);
+        } finally {
+            driver.close();
+        }
+        driver.printSummary();
+        System.out.printf("Total wall-clock time: %.1f ms%n", (System.nanoTime() - start) / 1e6);
+        if (!success) {
+            System.exit(1);
+        }
+    }
+}
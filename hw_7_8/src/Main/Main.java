@@ -1,77 +1,145 @@
 package Main;
 
+import DSA.Graphs.EdgeListParser;
 import DSA.Graphs.GCA.GCASolution;
 import DSA.Graphs.GCA.GreedyGCA;
+import DSA.Graphs.GCA.StreamingGCA;
 import DSA.Graphs.GTUGraph;
 import DSA.Graphs.MatrixGraph.MatrixGraph;
+import DSA.IO.IntWriter;
 import DSA.Sorting.GTUSorter;
 import DSA.Sorting.MyInsertSort;
 import DSA.Sorting.MyQuickSort;
 import DSA.Sorting.MySelectSort;
-import java.io.File;
-import java.io.FileWriter;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.Scanner;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class Main {
-    public static void main(String[] args) {
+    /**
+     * Parser sink that builds the graph and records the endpoint sum of every
+     * edge, in file order.
+     */
+    static class GraphAndSums implements EdgeListParser.Sink {
+        private final GTUGraph graph;
+        private int[] sums = new int[1024];
+        private int sumCount = 0;
+
+        public GraphAndSums(GTUGraph graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public void begin(int size) {
+            graph.reset(size);
+        }
+
+        @Override
+        public void edges(int[] edges, int edgeCount) {
+            graph.setEdges(edges, edgeCount);
+            if (sumCount + edgeCount > sums.length) {
+                sums = Arrays.copyOf(sums, Math.max(2 * sums.length, sumCount + edgeCount));
+            }
+            for (int i = 0; i < edgeCount; i++) {
+                sums[sumCount++] = edges[2 * i] + edges[2 * i + 1];
+            }
+        }
+
+        public int[] getSums() {
+            return Arrays.copyOf(sums, sumCount);
+        }
+    }
+
+    /**
+     * The sorters compared by the experiments, by output name. Each call of a
+     * factory returns a fresh sorter, so jobs never share sorter state.
+     * @return Sorter factories in output order.
+     */
+    static Map<String, Supplier<GTUSorter>> sorterFactories() {
+        Map<String, Supplier<GTUSorter>> factories = new LinkedHashMap<>();
+        factories.put("MyInsertSort", MyInsertSort::new);
+        factories.put("MySelectSort", MySelectSort::new);
+        factories.put("MyQuickSort", MyQuickSort::new);
+        factories.put("MyQuickSort_MyInsertSort", () -> new MyQuickSort(new MyInsertSort(), 10));
+        factories.put("MyQuickSort_MySelectSort", () -> new MyQuickSort(new MySelectSort(), 10));
+        return factories;
+    }
+
+    /**
+     * Write the values to a file, one per line.
+     * @param filePath Path to the file.
+     * @param values Values to write.
+     * @throws IOException if the file cannot be written.
+     */
+    static void writeInts(String filePath, int[] values) throws IOException {
+        try (IntWriter writer = new IntWriter(filePath)) {
+            for (int value : values) {
+                writer.writeLine(value);
+            }
+        }
+    }
+
+    /**
+     * Color an edge file without loading the graph, and write the solution
+     * to output_path + "StreamingGCA_color.txt".
+     * @param args The input file and the output path.
+     */
+    static void streamingColor(String[] args) {
         if (args.length < 2) {
-            System.err.println("Error: Too few arguments. (Expected: <int:input_file> <String:output_path>)");
+            System.err.println("Error: Too few arguments. (Expected: --streaming <int:input_file> <String:output_path>)");
             return;
         }
 
         try {
-            File file = new File(args[0]);
-            Scanner scanner = new Scanner(file);
-    
-            Integer graph_size = Integer.parseInt(scanner.nextLine().strip());
-            ArrayList<Integer> arr = new ArrayList<>();
-    
-            while (scanner.hasNextLine()) {
-                String line[] = scanner.nextLine().strip().split(" ");
-                arr.add(Integer.parseInt(line[0]) + Integer.parseInt(line[1]));
+            int[] colorOf = new StreamingGCA().solve(args[0]);
+            if (!StreamingGCA.writeSolution(args[1] + "StreamingGCA_color.txt", colorOf)) {
+                throw new IOException("Could not write " + args[1] + "StreamingGCA_color.txt");
             }
+        } catch (IOException e) {
+            System.err.printf("Error: %s\n", e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--concurrent")) {
+            ExperimentDriver.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--streaming")) {
+            streamingColor(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length < 2) {
+            System.err.println("Error: Too few arguments. (Expected: [--concurrent|--streaming] <int:input_file> <String:output_path>)");
+            return;
+        }
+
+        try {
+            // Read the file once: build the graph and collect the endpoint sums.
+            GTUGraph graph = new MatrixGraph();
+            GraphAndSums input = new GraphAndSums(graph);
+            new EdgeListParser().parse(args[0], input);
+            int[] sums = input.getSums();
     
-            scanner.close();
-    
-            ArrayList<GTUSorter> sorters = new ArrayList<>();
-            ArrayList<String> names = new ArrayList<>();
-    
-            sorters.add(new MyInsertSort());                         names.add("MyInsertSort");
-            sorters.add(new MySelectSort());                         names.add("MySelectSort");
-            sorters.add(new MyQuickSort());                          names.add("MyQuickSort");
-            sorters.add(new MyQuickSort(new MyInsertSort(), 10));    names.add("MyQuickSort_MyInsertSort");
-            sorters.add(new MyQuickSort(new MySelectSort(), 10));    names.add("MyQuickSort_MySelectSort");
+            Map<String, Supplier<GTUSorter>> sorters = sorterFactories();
     
-            Integer[] tempArr = new Integer[arr.size()];
-            for (int i = 0; i < sorters.size(); i++) {
-                GTUSorter sorter = sorters.get(i);
-                String name = names.get(i);
+            int[] tempArr = new int[sums.length];
+            for (Map.Entry<String, Supplier<GTUSorter>> entry : sorters.entrySet()) {
+                GTUSorter sorter = entry.getValue().get();
+                String name = entry.getKey();
     
-                arr.toArray(tempArr);
-                sorter.sort(tempArr, new Comparator<Integer>() {
-                    @Override
-                    public int compare(Integer arg0, Integer arg1) {
-                        return arg1.compareTo(arg0);
-                    }
-                });
-                
-                File result = new File(args[1] + name + ".txt");
-                FileWriter writer = new FileWriter(result);
-                for (Integer integer : tempArr) {
-                    writer.write(integer.toString() + "\n");
-                }
-                writer.close();
+                System.arraycopy(sums, 0, tempArr, 0, sums.length);
+                sorter.sortDescending(tempArr);
+                writeInts(args[1] + name + ".txt", tempArr);
             }
 
-            GTUGraph graph = new MatrixGraph();
-            GTUGraph.readGraph(args[0], graph);
             GTUGraph.writeGraph(args[1] + "graph.txt", graph);
     
-            for (int i = 0; i < sorters.size(); i++) {
-                GTUSorter sorter = sorters.get(i);
-                String name = names.get(i);
+            for (Map.Entry<String, Supplier<GTUSorter>> entry : sorters.entrySet()) {
+                GTUSorter sorter = entry.getValue().get();
+                String name = entry.getKey();
                 
                 GCASolution solution = GreedyGCA.solve(graph, sorter);
     
@@ -83,4 +151,4 @@ public class Main {
             return;
         }
     }
-}
\ No newline at end of file
+}
@@ -285,6 +285,98 @@ public class AdjacencyVectTest {
             System.out.println("FAILED");
         }
 
+        // Test Case 7: Word boundaries
+        AdjacencyVect vectWide = new AdjacencyVect(130);
+        vectWide.add(Integer.valueOf(0));
+        vectWide.add(Integer.valueOf(63));
+        vectWide.add(Integer.valueOf(64));
+        vectWide.add(Integer.valueOf(129));
+        Object[] wideArray = vectWide.toArray();
+
+        boolean wideCorrect = (wideArray.length == 4 &&
+                Integer.valueOf(0).equals(wideArray[0]) &&
+                Integer.valueOf(63).equals(wideArray[1]) &&
+                Integer.valueOf(64).equals(wideArray[2]) &&
+                Integer.valueOf(129).equals(wideArray[3]));
+
+        testsRun++;
+        System.out.print("Test: AdjacencyVect - Elements across word boundaries ... ");
+        if (wideCorrect) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: AdjacencyVect - nextSetBit skips empty words ... ");
+        if (vectWide.nextSetBit(65) == 129 && vectWide.nextSetBit(130) == -1) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 8: Bulk operations between vectors
+        AdjacencyVect vectOther = new AdjacencyVect(130);
+        vectOther.add(Integer.valueOf(63));
+        vectOther.add(Integer.valueOf(100));
+        vectWide.addAll(vectOther);
+
+        testsRun++;
+        System.out.print("Test: AdjacencyVect - addAll with another vector ... ");
+        if (vectWide.size() == 5 && vectWide.contains(Integer.valueOf(100))) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        vectWide.retainAll(vectOther);
+
+        testsRun++;
+        System.out.print("Test: AdjacencyVect - retainAll with another vector ... ");
+        if (vectWide.size() == 2 && vectWide.contains(Integer.valueOf(63)) && !vectWide.contains(Integer.valueOf(0))) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 9: Switching between sorted array and bitset
+        AdjacencyVect vectAdaptive = new AdjacencyVect(1000);
+        for (int i = 198; i >= 0; i -= 2) {
+            vectAdaptive.add(Integer.valueOf(i));
+        }
+        boolean promoted = vectAdaptive.isDense() && vectAdaptive.size() == 100
+                && vectAdaptive.contains(0) && vectAdaptive.contains(198) && !vectAdaptive.contains(199);
+
+        testsRun++;
+        System.out.print("Test: AdjacencyVect - Dense rows are promoted to a bitset ... ");
+        if (promoted && !new AdjacencyVect(1000).isDense()) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        for (int i = 0; i < 180; i += 2) {
+            vectAdaptive.remove(Integer.valueOf(i));
+        }
+        int[] remaining = new int[vectAdaptive.size()];
+        vectAdaptive.toIntArray(remaining);
+        boolean demoted = !vectAdaptive.isDense() && remaining.length == 10 && remaining[0] == 180
+                && remaining[9] == 198 && vectAdaptive.nextSetBit(181) == 182 && vectAdaptive.nextSetBit(199) == -1;
+
+        testsRun++;
+        System.out.print("Test: AdjacencyVect - Shrunk rows go back to a sorted array ... ");
+        if (demoted) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
         System.out.println("\n--- AdjacencyVect Tests Summary ---");
         System.out.println("Total Tests Run: " + testsRun);
         System.out.println("Tests Passed:    " + testsPassed);
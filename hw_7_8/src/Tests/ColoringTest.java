@@ -0,0 +1,435 @@
+package Tests;
+
+import DSA.Graphs.GCA.ComponentGCA;
+import DSA.Graphs.GCA.DSaturGCA;
+import DSA.Graphs.GCA.GCASolution;
+import DSA.Graphs.GCA.GreedyGCA;
+import DSA.Graphs.GCA.IncrementalGCA;
+import DSA.Graphs.GCA.ParallelGCA;
+import DSA.Graphs.GCA.StreamingGCA;
+import DSA.Graphs.GTUGraph;
+import DSA.Graphs.MatrixGraph.MatrixGraph;
+import DSA.Sorting.MyInsertSort;
+import DSA.Sorting.MyQuickSort;
+import DSA.Sorting.MyRadixSort;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A simple test class for the graph coloring algorithms.
+ * This class does not use any external testing libraries beyond core Java.
+ * Test results are printed to the console.
+ */
+public class ColoringTest {
+
+    /**
+     * Main method to run all coloring tests.
+     *
+     * @param args Command line arguments (not used).
+     */
+    public static void main(String[] args) {
+        System.out.println("--- Running Coloring Tests ---");
+        int testsRun = 0;
+        int testsPassed = 0;
+
+        // Test Case 1: Odd cycle needs three colors
+        MatrixGraph cycle = new MatrixGraph(5);
+        for (int i = 0; i < 5; i++) {
+            cycle.setEdge(i, (i + 1) % 5);
+        }
+        GCASolution solution = GreedyGCA.solve(cycle, new MyInsertSort());
+
+        testsRun++;
+        System.out.print("Test: GreedyGCA - Odd cycle is colored validly ... ");
+        if (isValid(cycle, solution)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: GreedyGCA - Odd cycle uses three colors ... ");
+        if (solution.colorNum() == 3) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 2: Graph without edges needs one color
+        MatrixGraph empty = new MatrixGraph(4);
+        solution = GreedyGCA.solve(empty, new MyInsertSort());
+
+        testsRun++;
+        System.out.print("Test: GreedyGCA - Edgeless graph uses one color ... ");
+        if (isValid(empty, solution) && solution.colorNum() == 1) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 3: Random graph
+        MatrixGraph random = randomGraph(200, 1500, 58);
+        solution = GreedyGCA.solve(random, new MyQuickSort());
+
+        testsRun++;
+        System.out.print("Test: GreedyGCA - Random graph is colored validly ... ");
+        if (isValid(random, solution)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        GCASolution radixSolution = GreedyGCA.solve(random, new MyRadixSort());
+
+        testsRun++;
+        System.out.print("Test: GreedyGCA - Radix sorter gives the same coloring ... ");
+        if (sameColoring(random.size(), solution, radixSolution)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 4: DSATUR
+        solution = DSaturGCA.solve(random);
+
+        testsRun++;
+        System.out.print("Test: DSaturGCA - Random graph is colored validly ... ");
+        if (isValid(random, solution)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        MatrixGraph crown = new MatrixGraph(8);
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                if (i != j) {
+                    crown.setEdge(i, 4 + j);
+                }
+            }
+        }
+        solution = DSaturGCA.solve(crown);
+
+        testsRun++;
+        System.out.print("Test: DSaturGCA - Bipartite crown graph uses two colors ... ");
+        if (isValid(crown, solution) && solution.colorNum() == 2) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        solution = DSaturGCA.solve(cycle);
+
+        testsRun++;
+        System.out.print("Test: DSaturGCA - Odd cycle uses three colors ... ");
+        if (isValid(cycle, solution) && solution.colorNum() == 3) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 5: Parallel coloring
+        ParallelGCA parallel = new ParallelGCA();
+        MatrixGraph large = randomGraph(5000, 40000, 7);
+        solution = parallel.solve(large);
+
+        testsRun++;
+        System.out.print("Test: ParallelGCA - Random graph is colored validly ... ");
+        if (isValid(large, solution)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: ParallelGCA - Reports at least one round ... ");
+        if (parallel.getRounds() >= 1 && parallel.getRounds() <= large.size()) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 6: Incremental coloring
+        MatrixGraph dynamic = randomGraph(2000, 8000, 21);
+        IncrementalGCA incremental = new IncrementalGCA(dynamic, new MyQuickSort());
+        Random mutations = new Random(99);
+        boolean alwaysValid = true;
+        boolean onlyTouched = true;
+        int recolored = 0;
+        int[] before = new int[dynamic.size()];
+        for (int batch = 0; batch < 20; batch++) {
+            int[] added = new int[2 * 100];
+            int[] removed = new int[2 * 100];
+            for (int i = 0; i < added.length; i++) {
+                added[i] = mutations.nextInt(dynamic.size());
+            }
+            for (int i = 0; i < 100; i++) {
+                int v = mutations.nextInt(dynamic.size());
+                removed[2 * i] = v;
+                removed[2 * i + 1] = dynamic.degree(v) == 0 ? v : dynamic.getNeighbors(v).iterator().next();
+            }
+            boolean[] touched = new boolean[dynamic.size()];
+            for (int i = 0; i < added.length; i++) {
+                touched[added[i]] = true;
+                touched[removed[i]] = true;
+            }
+            for (int v = 0; v < dynamic.size(); v++) {
+                before[v] = incremental.colorOf(v);
+            }
+
+            recolored += incremental.applyBatch(added, 100, removed, 100);
+            alwaysValid &= isValid(dynamic, incremental.getSolution()) && incremental.pendingCount() == 0;
+            for (int v = 0; v < dynamic.size(); v++) {
+                onlyTouched &= touched[v] || incremental.colorOf(v) == before[v];
+            }
+        }
+
+        testsRun++;
+        System.out.print("Test: IncrementalGCA - Coloring stays valid across mutation batches ... ");
+        if (alwaysValid) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: IncrementalGCA - Only touched vertices are recolored ... ");
+        if (recolored > 0 && onlyTouched) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        MatrixGraph path = new MatrixGraph(3);
+        path.setEdge(0, 1);
+        path.setEdge(1, 2);
+        incremental = new IncrementalGCA(path, new MyInsertSort());
+        incremental.addEdge(0, 2);
+        boolean conflictQueued = incremental.pendingCount() == 1;
+        incremental.repair();
+
+        testsRun++;
+        System.out.print("Test: IncrementalGCA - Closing a triangle adds a third color ... ");
+        if (conflictQueued && isValid(path, incremental.getSolution()) && incremental.getSolution().colorNum() == 3) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        incremental.removeEdge(0, 2);
+        incremental.removeEdge(1, 2);
+        incremental.repair();
+
+        testsRun++;
+        System.out.print("Test: IncrementalGCA - Removing edges releases colors ... ");
+        if (isValid(path, incremental.getSolution()) && incremental.getSolution().colorNum() == 2) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 7: Component-parallel coloring
+        MatrixGraph pieces = new MatrixGraph(6000);
+        Random pieceRandom = new Random(13);
+        for (int first = 0; first < 6000; first += 30) {
+            for (int i = 0; i < 90; i++) {
+                pieces.setEdge(first + pieceRandom.nextInt(30), first + pieceRandom.nextInt(30));
+            }
+        }
+        ForkJoinPool componentPool = new ForkJoinPool(4);
+        ComponentGCA component = new ComponentGCA(componentPool);
+        solution = component.solve(pieces);
+        GCASolution sequential = new ComponentGCA(new ForkJoinPool(1)).solve(pieces);
+
+        testsRun++;
+        System.out.print("Test: ComponentGCA - Components are colored validly and deterministically ... ");
+        if (isValid(pieces, solution) && sameColoring(pieces.size(), solution, sequential) && component.getComponentCount() >= 200) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: ComponentGCA - Colors are shared between components ... ");
+        if (solution.colorNum() <= GreedyGCA.solve(pieces, new MyQuickSort()).colorNum()) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        MatrixGraph forest = new MatrixGraph(1000);
+        for (int v = 1; v < 1000; v++) {
+            if (v % 100 != 0) {
+                forest.setEdge(v, pieceRandom.nextInt(v - v % 100, v));
+            }
+        }
+        solution = component.solve(forest);
+        componentPool.shutdown();
+
+        testsRun++;
+        System.out.print("Test: ComponentGCA - Smallest-last colors a forest with two colors ... ");
+        if (isValid(forest, solution) && solution.colorNum() == 2 && component.getComponentCount() == 10) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 8: Streaming coloring
+        boolean streamedValid = false;
+        boolean streamedFile = false;
+        boolean streamedClique = false;
+        try {
+            File edgeFile = File.createTempFile("edges", ".txt");
+            File streamedOut = File.createTempFile("streamed", ".txt");
+            File solutionOut = File.createTempFile("solution", ".txt");
+            edgeFile.deleteOnExit();
+            streamedOut.deleteOnExit();
+            solutionOut.deleteOnExit();
+
+            MatrixGraph streamed = randomGraph(3000, 30000, 77);
+            GTUGraph.writeGraph(edgeFile.getPath(), streamed);
+            StreamingGCA streaming = new StreamingGCA();
+            int[] colorOf = streaming.solve(edgeFile.getPath());
+            solution = StreamingGCA.toSolution(colorOf);
+            streamedValid = isValid(streamed, solution) && streaming.getPasses() >= 2;
+
+            StreamingGCA.writeSolution(streamedOut.getPath(), colorOf);
+            solution.writeSolution(solutionOut.getPath());
+            streamedFile = Arrays.equals(Files.readAllBytes(streamedOut.toPath()), Files.readAllBytes(solutionOut.toPath()));
+
+            MatrixGraph clique = new MatrixGraph(100);
+            for (int v = 0; v < 100; v++) {
+                for (int u = v + 1; u < 100; u++) {
+                    clique.setEdge(v, u);
+                }
+            }
+            GTUGraph.writeGraph(edgeFile.getPath(), clique);
+            solution = StreamingGCA.toSolution(streaming.solve(edgeFile.getPath()));
+            streamedClique = isValid(clique, solution) && solution.colorNum() == 100;
+        } catch (Exception e) {
+            System.err.printf("Error: %s\n", e.getMessage());
+        }
+
+        testsRun++;
+        System.out.print("Test: StreamingGCA - Edge file is colored validly ... ");
+        if (streamedValid) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: StreamingGCA - Output matches GCASolution.writeSolution ... ");
+        if (streamedFile) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: StreamingGCA - Windows move past 64 colors ... ");
+        if (streamedClique) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        System.out.println("\n--- Coloring Tests Summary ---");
+        System.out.println("Total Tests Run: " + testsRun);
+        System.out.println("Tests Passed:    " + testsPassed);
+        System.out.println("Tests Failed:    " + (testsRun - testsPassed));
+        System.out.println("------------------------------");
+    }
+
+    /**
+     * Helper method to check whether two solutions assign every vertex the
+     * same color.
+     * @param size Number of vertices
+     * @param a First solution
+     * @param b Second solution
+     * @return true if the solutions are identical
+     */
+    private static boolean sameColoring(int size, GCASolution a, GCASolution b) {
+        if (!a.colorNum().equals(b.colorNum())) {
+            return false;
+        }
+        for (int v = 0; v < size; v++) {
+            for (int c = 0; c < a.colorNum(); c++) {
+                if (a.hasColor(v, c) != b.hasColor(v, c)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Helper method to build a random graph with a fixed seed.
+     * @param size Number of vertices
+     * @param edges Number of edges to try to add
+     * @param seed Random seed
+     * @return the graph
+     */
+    private static MatrixGraph randomGraph(int size, int edges, long seed) {
+        MatrixGraph graph = new MatrixGraph(size);
+        Random random = new Random(seed);
+        for (int i = 0; i < edges; i++) {
+            graph.setEdge(random.nextInt(size), random.nextInt(size));
+        }
+        return graph;
+    }
+
+    /**
+     * Helper method to check that every vertex has exactly one color and that
+     * no edge joins two vertices of the same color.
+     * @param graph The colored graph
+     * @param solution The coloring
+     * @return true if the coloring is valid, false otherwise
+     */
+    private static boolean isValid(GTUGraph graph, GCASolution solution) {
+        int[] colorOf = new int[graph.size()];
+        Arrays.fill(colorOf, -1);
+        for (int c = 0; c < solution.colorNum(); c++) {
+            for (int v : solution.getColorVertices(c)) {
+                if (colorOf[v] != -1) {
+                    return false;
+                }
+                colorOf[v] = c;
+            }
+        }
+        for (int v = 0; v < graph.size(); v++) {
+            if (colorOf[v] == -1) {
+                return false;
+            }
+            for (int n : graph.getNeighbors(v)) {
+                if (colorOf[n] == colorOf[v]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -1,11 +1,22 @@
 package Tests;
 
+import DSA.Graphs.BinaryGraphFormat;
+import DSA.Graphs.GTUGraph;
+import DSA.Graphs.CSRGraph.CSRGraph;
 import DSA.Graphs.MatrixGraph.MatrixGraph;
 import DSA.Graphs.MatrixGraph.AdjacencyVect;
+import DSA.Graphs.OffHeapGraph.OffHeapGraph;
+import DSA.Graphs.TriangularMatrixGraph.TriangularMatrixGraph;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Random;
 
 /**
- * A simple test class for MatrixGraph.
+ * A simple test class for MatrixGraph, CSRGraph and OffHeapGraph.
  * This class does not use any external testing libraries beyond core Java.
  * Test results are printed to the console.
  */
@@ -204,6 +215,363 @@ public class GraphTest {
             System.out.println("FAILED");
         }
 
+        // Test Case 5: Primitive neighbor access
+        testsRun++;
+        System.out.print("Test: MatrixGraph - degree matches getNeighbors size ... ");
+        if (graph.degree(0) == 2 && graph.degree(1) == 1 && graph.degree(3) == 1) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        int[] neighborBuffer = new int[4];
+        int neighborCount = graph.copyNeighbors(2, neighborBuffer);
+        testsRun++;
+        System.out.print("Test: MatrixGraph - copyNeighbors for vertex 2 ... ");
+        if (neighborCount == 2 && neighborBuffer[0] == 0 && neighborBuffer[1] == 3) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        int[] neighborSum = new int[1];
+        graph.forEachNeighbor(0, n -> neighborSum[0] += n);
+        testsRun++;
+        System.out.print("Test: MatrixGraph - forEachNeighbor visits every neighbor ... ");
+        if (neighborSum[0] == 3) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        int[] tested = new int[1];
+        int found = graph.findNeighbor(2, n -> ++tested[0] > 0);
+        testsRun++;
+        System.out.print("Test: MatrixGraph - findNeighbor stops at the first match ... ");
+        if (found == 0 && tested[0] == 1 && graph.findNeighbor(2, n -> n > 0) == 3
+                && graph.findNeighbor(2, n -> n > 3) == -1) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 6: CSRGraph
+        CSRGraph csr = new CSRGraph(5);
+        csr.setEdge(3, 1);
+        csr.setEdge(0, 1);
+        csr.setEdge(1, 0);
+        csr.setEdge(2, 4);
+
+        testsRun++;
+        System.out.print("Test: CSRGraph - getEdge for pending edge (both directions) ... ");
+        if (csr.getEdge(0, 1) && csr.getEdge(1, 3) && !csr.getEdge(0, 2)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: CSRGraph - getNeighbors drops duplicate edges ... ");
+        if (checkCollectionContents(csr.getNeighbors(1), new Integer[]{0, 3})) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: CSRGraph - setEdge for compacted edge returns false ... ");
+        if (!csr.setEdge(4, 2) && !csr.setEdge(2, 2) && !csr.setEdge(0, 5)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        csr.setEdge(4, 0);
+
+        testsRun++;
+        System.out.print("Test: CSRGraph - Edges added after compaction are merged ... ");
+        if (checkCollectionContents(csr.getNeighbors(4), new Integer[]{0, 2})
+                && checkCollectionContents(csr.getNeighbors(0), new Integer[]{1, 4})) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        csr = new CSRGraph(4, new int[]{0, 1, 2, 3, 1, 0, 3, 3}, 4);
+
+        testsRun++;
+        System.out.print("Test: CSRGraph - Bulk constructor skips invalid edges ... ");
+        if (csr.getNeighbors(3).size() == 1 && csr.getEdge(2, 3) && csr.getEdge(1, 0)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 7: Binary file round trip
+        graph = new MatrixGraph(70);
+        graph.setEdge(0, 69);
+        graph.setEdge(5, 64);
+        graph.setEdge(5, 6);
+        boolean roundTrip = false;
+        try {
+            File binary = File.createTempFile("graph", ".bin");
+            binary.deleteOnExit();
+            GTUGraph.writeBinaryGraph(binary.getPath(), graph);
+
+            CSRGraph loadedCsr = new CSRGraph();
+            GTUGraph.readBinaryGraph(binary.getPath(), loadedCsr);
+            MatrixGraph loadedMatrix = new MatrixGraph();
+            GTUGraph.readBinaryGraph(binary.getPath(), loadedMatrix);
+
+            roundTrip = loadedCsr.size() == 70 && loadedMatrix.size() == 70
+                    && checkCollectionContents(loadedCsr.getNeighbors(5), new Integer[]{6, 64})
+                    && checkCollectionContents(loadedMatrix.getNeighbors(5), new Integer[]{6, 64})
+                    && loadedCsr.getEdge(69, 0) && loadedMatrix.getEdge(69, 0)
+                    && loadedCsr.getNeighbors(1).isEmpty();
+        } catch (Exception e) {
+            roundTrip = false;
+        }
+
+        testsRun++;
+        System.out.print("Test: GTUGraph - Binary write/read round trip ... ");
+        if (roundTrip) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        boolean rejected = false;
+        try {
+            File binary = File.createTempFile("graph", ".bin");
+            binary.deleteOnExit();
+            GTUGraph.writeBinaryGraph(binary.getPath(), graph);
+            long targetsPosition = BinaryGraphFormat.HEADER_BYTES + 8L * (70 + 1);
+
+            // Row 5 holds targets 1 and 2; put them out of order.
+            try (RandomAccessFile file = new RandomAccessFile(binary, "rw")) {
+                file.seek(targetsPosition + 4);
+                file.write(new byte[]{64, 0, 0, 0, 6, 0, 0, 0});
+            }
+            try {
+                BinaryGraphFormat.read(binary.getPath(), new CSRGraph());
+            } catch (IOException e) {
+                rejected = e.getMessage().startsWith("Corrupt target");
+            }
+
+            // Point the same row past the last vertex.
+            try (RandomAccessFile file = new RandomAccessFile(binary, "rw")) {
+                file.seek(targetsPosition + 4);
+                file.write(new byte[]{6, 0, 0, 0, 70, 0, 0, 0});
+            }
+            try {
+                BinaryGraphFormat.read(binary.getPath(), new CSRGraph());
+                rejected = false;
+            } catch (IOException e) {
+                rejected &= e.getMessage().startsWith("Corrupt target");
+            }
+        } catch (Exception e) {
+            rejected = false;
+        }
+
+        testsRun++;
+        System.out.print("Test: GTUGraph - Binary read rejects corrupt targets ... ");
+        if (rejected) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 8: Text edge list parsing
+        boolean parsed = false;
+        try {
+            File text = File.createTempFile("graph", ".txt");
+            text.deleteOnExit();
+            FileWriter writer = new FileWriter(text);
+            writer.write("4\r\n0 1\r\n\n  2   3 \n1 3");
+            writer.close();
+
+            CSRGraph parsedGraph = new CSRGraph();
+            GTUGraph.readGraph(text.getPath(), parsedGraph);
+            parsed = parsedGraph.size() == 4
+                    && checkCollectionContents(parsedGraph.getNeighbors(3), new Integer[]{1, 2})
+                    && checkCollectionContents(parsedGraph.getNeighbors(0), new Integer[]{1});
+        } catch (Exception e) {
+            parsed = false;
+        }
+
+        testsRun++;
+        System.out.print("Test: GTUGraph - readGraph handles blank lines and CRLF ... ");
+        if (parsed) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 9: OffHeapGraph
+        Random random = new Random(11);
+        MatrixGraph reference = new MatrixGraph(300);
+        OffHeapGraph offHeap = new OffHeapGraph(300);
+        for (int i = 0; i < 2000; i++) {
+            int v1 = random.nextInt(300);
+            int v2 = random.nextInt(300);
+            reference.setEdge(v1, v2);
+            if (i % 2 == 0) {
+                offHeap.setEdge(v1, v2);
+            } else {
+                offHeap.setEdges(new int[]{v1, v2}, 1);
+            }
+        }
+
+        testsRun++;
+        System.out.print("Test: OffHeapGraph - Rows match MatrixGraph after compaction ... ");
+        if (sameGraph(reference, offHeap) && !offHeap.setEdge(0, 0) && !offHeap.getEdge(0, 300)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        boolean mapped = false;
+        boolean readOnly = false;
+        try {
+            File binary = File.createTempFile("graph", ".bin");
+            binary.deleteOnExit();
+            GTUGraph.writeBinaryGraph(binary.getPath(), reference);
+
+            OffHeapGraph mappedGraph = OffHeapGraph.map(binary.getPath());
+            OffHeapGraph loadedGraph = new OffHeapGraph();
+            GTUGraph.readBinaryGraph(binary.getPath(), loadedGraph);
+            mapped = mappedGraph.isReadOnly() && sameGraph(reference, mappedGraph) && sameGraph(reference, loadedGraph);
+
+            try {
+                mappedGraph.setEdge(0, 1);
+            } catch (UnsupportedOperationException e) {
+                mappedGraph.reset(3);
+                readOnly = mappedGraph.setEdge(0, 1) && mappedGraph.getEdge(1, 0);
+            }
+        } catch (Exception e) {
+            mapped = false;
+        }
+
+        testsRun++;
+        System.out.print("Test: OffHeapGraph - Binary file is mapped without copying ... ");
+        if (mapped) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        testsRun++;
+        System.out.print("Test: OffHeapGraph - Mapped graph is read-only until reset ... ");
+        if (readOnly) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        boolean corruptRejected = false;
+        try {
+            File binary = File.createTempFile("graph", ".bin");
+            binary.deleteOnExit();
+            GTUGraph.writeBinaryGraph(binary.getPath(), reference);
+
+            // Send row 150 back to the start of the targets.
+            try (RandomAccessFile file = new RandomAccessFile(binary, "rw")) {
+                file.seek(BinaryGraphFormat.HEADER_BYTES + 8L * 150);
+                file.write(new byte[8]);
+            }
+            try {
+                OffHeapGraph.map(binary.getPath());
+            } catch (IOException e) {
+                corruptRejected = e.getMessage().startsWith("Corrupt row offset");
+            }
+        } catch (Exception e) {
+            corruptRejected = false;
+        }
+
+        testsRun++;
+        System.out.print("Test: OffHeapGraph - Mapping rejects unordered row offsets ... ");
+        if (corruptRejected) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 10: Edge removal
+        graph = new MatrixGraph(4);
+        graph.setEdge(0, 1);
+        graph.setEdge(1, 2);
+        boolean removedEdge = graph.removeEdge(1, 0) && !graph.getEdge(0, 1) && !graph.getEdge(1, 0)
+                && graph.getEdge(1, 2) && !graph.removeEdge(0, 1) && !graph.removeEdge(0, 4);
+        boolean unsupported = false;
+        try {
+            new CSRGraph(2).removeEdge(0, 1);
+        } catch (UnsupportedOperationException e) {
+            unsupported = true;
+        }
+
+        testsRun++;
+        System.out.print("Test: MatrixGraph - removeEdge removes both directions ... ");
+        if (removedEdge && unsupported) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 11: TriangularMatrixGraph
+        Random triangleRandom = new Random(17);
+        MatrixGraph full = new MatrixGraph(131);
+        TriangularMatrixGraph triangle = new TriangularMatrixGraph(131);
+        boolean sameResults = true;
+        for (int i = 0; i < 3000; i++) {
+            int v1 = triangleRandom.nextInt(132) - 1;
+            int v2 = triangleRandom.nextInt(132) - 1;
+            if (i % 4 == 3) {
+                sameResults &= full.removeEdge(v1, v2) == triangle.removeEdge(v1, v2);
+            } else {
+                sameResults &= full.setEdge(v1, v2) == triangle.setEdge(v1, v2);
+            }
+        }
+
+        testsRun++;
+        System.out.print("Test: TriangularMatrixGraph - Same edges as MatrixGraph ... ");
+        if (sameResults && sameGraph(full, triangle) && triangle.getEdge(5, 9) == triangle.getEdge(9, 5)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        int[] triangleRow = new int[triangle.degree(130)];
+        int[] fullRow = new int[full.degree(130)];
+        triangle.copyNeighbors(130, triangleRow);
+        full.copyNeighbors(130, fullRow);
+
+        testsRun++;
+        System.out.print("Test: TriangularMatrixGraph - Neighbors are in ascending order ... ");
+        if (Arrays.equals(triangleRow, fullRow) && !triangle.getEdge(3, 3)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
         System.out.println("\n--- MatrixGraph Tests Summary ---");
         System.out.println("Total Tests Run: " + testsRun);
         System.out.println("Tests Passed:    " + testsPassed);
@@ -211,6 +579,33 @@ public class GraphTest {
         System.out.println("--------------------------------");
     }
 
+    /**
+     * Helper method to check that two graphs have the same vertices and edges.
+     * @param expected Reference graph
+     * @param actual Graph under test
+     * @return true if every row matches
+     */
+    private static boolean sameGraph(GTUGraph expected, GTUGraph actual) {
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        for (int v = 0; v < expected.size(); v++) {
+            Collection<Integer> row = actual.getNeighbors(v);
+            if (expected.degree(v) != actual.degree(v) || !checkCollectionContents(row, expected.getNeighbors(v).toArray(new Integer[0]))) {
+                return false;
+            }
+            for (int u : row) {
+                if (!row.contains(u)) {
+                    return false;
+                }
+            }
+            if (expected.findNeighbor(v, u -> u % 3 == 0) != actual.findNeighbor(v, u -> u % 3 == 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Helper method to check if a collection contains all expected elements and no others.
      * Assumes elements in the collection are unique if expected unique.
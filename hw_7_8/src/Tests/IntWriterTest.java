@@ -0,0 +1,155 @@
+package Tests;
+
+import DSA.Graphs.GCA.GCASolution;
+import DSA.IO.IntWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A simple test class for IntWriter. Every file is compared byte for byte
+ * with the same content written through FileWriter and String.format, the
+ * way the output files were written before IntWriter.
+ * This class does not use any external testing libraries beyond core Java.
+ * Test results are printed to the console.
+ */
+public class IntWriterTest {
+
+    /**
+     * Main method to run all IntWriter tests.
+     *
+     * @param args Command line arguments (not used).
+     */
+    public static void main(String[] args) {
+        System.out.println("--- Running IntWriter Tests ---");
+        int testsRun = 0;
+        int testsPassed = 0;
+
+        // Test Case 1: Edge values
+        int[] values = {0, 1, -1, 9, 10, -10, 99, 100, 999999999, 1000000000, -1000000000,
+                Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1};
+
+        testsRun++;
+        System.out.print("Test: IntWriter - writeLine(int) matches String.format ... ");
+        if (sameAsFormat(values, IntWriter.DEFAULT_BUFFER_BYTES)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 2: Random values through a buffer that flushes often
+        Random random = new Random(6);
+        int[] randomValues = new int[20000];
+        for (int i = 0; i < randomValues.length; i++) {
+            randomValues[i] = i % 2 == 0 ? random.nextInt() : random.nextInt(1000) - 500;
+        }
+
+        testsRun++;
+        System.out.print("Test: IntWriter - Small buffers give the same bytes ... ");
+        if (sameAsFormat(randomValues, 24) && sameAsFormat(randomValues, 100)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        boolean rejected = false;
+        try {
+            File file = File.createTempFile("ints", ".txt");
+            file.deleteOnExit();
+            new IntWriter(file.getPath(), 23).close();
+        } catch (IllegalArgumentException e) {
+            rejected = true;
+        } catch (IOException e) {
+            rejected = false;
+        }
+
+        testsRun++;
+        System.out.print("Test: IntWriter - Rejects buffers too small for a line ... ");
+        if (rejected) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 3: Solution files
+        GCASolution solution = new GCASolution(300);
+        for (int c = 0; c < 4; c++) {
+            solution.addColor();
+        }
+        for (int v = 0; v < 300; v++) {
+            solution.setColor(v, (v * 7) % 4);
+        }
+        boolean sameSolution = false;
+        try {
+            File file = File.createTempFile("solution", ".txt");
+            file.deleteOnExit();
+            StringBuilder expected = new StringBuilder(String.format("%d\n%d\n", 300, solution.colorNum()));
+            for (int c = 0; c < solution.colorNum(); c++) {
+                for (var vertex : solution.getColorVertices(c)) {
+                    expected.append(String.format("%d %d\n", c, vertex));
+                }
+            }
+            sameSolution = solution.writeSolution(file.getPath())
+                    && Arrays.equals(Files.readAllBytes(file.toPath()), expected.toString().getBytes());
+        } catch (IOException e) {
+            sameSolution = false;
+        }
+
+        testsRun++;
+        System.out.print("Test: IntWriter - Solution file layout is unchanged ... ");
+        if (sameSolution) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        System.out.println("\n--- IntWriter Tests Summary ---");
+        System.out.println("Total Tests Run: " + testsRun);
+        System.out.println("Tests Passed:    " + testsPassed);
+        System.out.println("Tests Failed:    " + (testsRun - testsPassed));
+        System.out.println("-------------------------------");
+    }
+
+    /**
+     * Helper method that writes the values with IntWriter, alone and in
+     * pairs, and with FileWriter and String.format, and compares the files.
+     * @param values Values to write
+     * @param bufferBytes Buffer size of the IntWriter
+     * @return true if both files have the same bytes
+     */
+    private static boolean sameAsFormat(int[] values, int bufferBytes) {
+        try {
+            File actual = File.createTempFile("ints", ".txt");
+            File expected = File.createTempFile("ints", ".txt");
+            actual.deleteOnExit();
+            expected.deleteOnExit();
+
+            try (IntWriter writer = new IntWriter(actual.getPath(), bufferBytes);
+                    FileWriter reference = new FileWriter(expected)) {
+                for (int value : values) {
+                    writer.writeLine(value);
+                    reference.write(String.format("%d\n", value));
+                }
+                for (int i = 0; i + 1 < values.length; i += 2) {
+                    writer.writeLine(values[i], values[i + 1]);
+                    reference.write(String.format("%d %d\n", values[i], values[i + 1]));
+                }
+                for (int value : values) {
+                    writer.writeInt(value);
+                    writer.writeChar(',');
+                    reference.write(Integer.toString(value) + ",");
+                }
+            }
+            return Arrays.equals(Files.readAllBytes(actual.toPath()), Files.readAllBytes(expected.toPath()));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package Tests;
 
 import DSA.Sorting.GTUSorter;
+import DSA.Sorting.InstrumentedSorter;
+import DSA.Sorting.MyHeapSort;
 import DSA.Sorting.MyInsertSort;
+import DSA.Sorting.MyParallelQuickSort;
 import DSA.Sorting.MyQuickSort;
+import DSA.Sorting.MyRadixSort;
 import DSA.Sorting.MySelectSort;
+import DSA.Sorting.MyTimSort;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A simple test class for sorting algorithms.
@@ -27,7 +33,14 @@ public class SorterTest {
             new MySelectSort(),
             new MyQuickSort(),
             new MyQuickSort(new MyInsertSort(), 10),
-            new MyQuickSort(new MySelectSort(), 10)
+            new MyQuickSort(new MySelectSort(), 10),
+            new MyParallelQuickSort(new MyInsertSort(), 10, 64, ForkJoinPool.commonPool()),
+            new MyQuickSort(MyQuickSort.Partitioning.THREE_WAY),
+            new MyQuickSort(new MyInsertSort(), 10, MyQuickSort.Partitioning.THREE_WAY),
+            new MyHeapSort(),
+            new MyQuickSort(new MyInsertSort(), 10, MyQuickSort.Partitioning.LOMUTO, true),
+            new MyRadixSort(),
+            new MyTimSort()
         };
         
         String[] sorterNames = {
@@ -35,7 +48,14 @@ public class SorterTest {
             "GTUSelectSort",
             "GTUQuickSort",
             "GTUQuickSort_GTUInsertSort",
-            "GTUQuickSort_GTUSelectSort"
+            "GTUQuickSort_GTUSelectSort",
+            "GTUParallelQuickSort_GTUInsertSort",
+            "GTUQuickSort3Way",
+            "GTUQuickSort3Way_GTUInsertSort",
+            "GTUHeapSort",
+            "GTUIntroSort_GTUInsertSort",
+            "GTURadixSort",
+            "GTUTimSort"
         };
         
         // Comparators
@@ -71,6 +91,24 @@ public class SorterTest {
         
         // Large array test
         testLargeArray(sorters, sorterNames);
+
+        // Many equal keys test
+        testManyEqualKeys(new MyQuickSort(MyQuickSort.Partitioning.THREE_WAY), "GTUQuickSort3Way");
+        testManyEqualKeys(new MyQuickSort(null, -1, MyQuickSort.Partitioning.LOMUTO, true), "GTUIntroSort");
+        testManyEqualKeys(new MyParallelQuickSort(), "GTUParallelQuickSort");
+        testManyEqualKeys(new MyParallelQuickSort(new MyInsertSort(), 10, 50, ForkJoinPool.commonPool()), "GTUParallelQuickSort");
+
+        // Primitive array tests
+        testPrimitiveArrays(sorters, sorterNames);
+
+        // Key extractor tests
+        testKeySort(new MyRadixSort(), "GTURadixSort", 100);
+        testKeySort(new MyRadixSort(), "GTURadixSort", 1 << 24);
+        testKeySort(new MyInsertSort(), "GTUInsertSort", 100);
+        testKeySort(new MyTimSort(), "GTUTimSort", 100);
+
+        // Instrumentation tests
+        testInstrumentedSorter();
         
         // Show test results
         System.out.println("\n=== Test Results ===");
@@ -231,6 +269,200 @@ public class SorterTest {
         }
     }
     
+    /**
+     * Tests sorting a large array in which every key is equal, and an int
+     * array with only 5 distinct keys. Two-way partitioning would recurse n
+     * levels deep on these inputs.
+     */
+    private static void testManyEqualKeys(GTUSorter sorter, String sorterName) {
+        System.out.println("\n=== Many Equal Keys Test (" + sorterName + ") ===");
+
+        Integer[] testArray = new Integer[200000];
+        Arrays.fill(testArray, 7);
+        Comparator<Integer> comparator = Integer::compareTo;
+
+        Random random = new Random(5);
+        int[] fewKeys = new int[200000];
+        for (int i = 0; i < fewKeys.length; i++) {
+            fewKeys[i] = random.nextInt(5);
+        }
+        int[] expected = Arrays.copyOf(fewKeys, fewKeys.length);
+        Arrays.sort(expected);
+
+        try {
+            sorter.sort(testArray, comparator);
+            sorter.sort(fewKeys);
+
+            if (isSorted(testArray, comparator) && Arrays.equals(fewKeys, expected)) {
+                System.out.println("✓ " + sorterName + ": Many equal keys test passed");
+                passedTests++;
+            } else {
+                System.out.println("✗ " + sorterName + ": Many equal keys test failed");
+                failedTests++;
+            }
+        } catch (StackOverflowError | Exception e) {
+            System.out.println("✗ " + sorterName + ": Many equal keys test failed - Error: " + e);
+            failedTests++;
+        }
+    }
+
+    /**
+     * Tests the int[] and long[] entry points, ascending and descending,
+     * against Arrays.sort.
+     */
+    private static void testPrimitiveArrays(GTUSorter[] sorters, String[] sorterNames) {
+        System.out.println("\n=== Primitive Array Tests ===");
+
+        Random random = new Random(42);
+        int[] ints = new int[5000];
+        long[] longs = new long[5000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt(2000) - 1000;
+            longs[i] = random.nextLong();
+        }
+        int[] expectedInts = Arrays.copyOf(ints, ints.length);
+        long[] expectedLongs = Arrays.copyOf(longs, longs.length);
+        Arrays.sort(expectedInts);
+        Arrays.sort(expectedLongs);
+        int[] expectedIntsDescending = new int[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            expectedIntsDescending[i] = expectedInts[ints.length - 1 - i];
+        }
+
+        for (int i = 0; i < sorters.length; i++) {
+            GTUSorter sorter = sorters[i];
+            String sorterName = sorterNames[i];
+
+            try {
+                int[] testInts = Arrays.copyOf(ints, ints.length);
+                long[] testLongs = Arrays.copyOf(longs, longs.length);
+                int[] testIntsDescending = Arrays.copyOf(ints, ints.length);
+                sorter.sort(testInts);
+                sorter.sort(testLongs);
+                sorter.sortDescending(testIntsDescending);
+
+                if (Arrays.equals(testInts, expectedInts) && Arrays.equals(testLongs, expectedLongs)
+                        && Arrays.equals(testIntsDescending, expectedIntsDescending)) {
+                    System.out.println("✓ " + sorterName + ": Primitive array test passed");
+                    passedTests++;
+                } else {
+                    System.out.println("✗ " + sorterName + ": Primitive array test failed");
+                    failedTests++;
+                }
+            } catch (Exception e) {
+                System.out.println("✗ " + sorterName + ": Primitive array test failed - Error: " + e.getMessage());
+                failedTests++;
+            }
+        }
+    }
+
+    /**
+     * Tests sorting by an int key with a stable sorter: elements must be
+     * ordered by key, and elements with equal keys must keep their original
+     * order. keyRange selects between the counting and radix paths.
+     */
+    private static void testKeySort(GTUSorter sorter, String sorterName, int keyRange) {
+        System.out.println("\n=== Key Sort Test (" + sorterName + ", range " + keyRange + ") ===");
+
+        Random random = new Random(7);
+        int[][] testArray = new int[3000][];
+        for (int i = 0; i < testArray.length; i++) {
+            testArray[i] = new int[]{random.nextInt(keyRange) - keyRange / 2, i};
+        }
+        int[][] expectedArray = Arrays.copyOf(testArray, testArray.length);
+        Arrays.sort(expectedArray, Comparator.comparingInt(pair -> pair[0]));
+
+        try {
+            sorter.sort(testArray, pair -> pair[0]);
+
+            if (sorter.isStable() && Arrays.equals(testArray, expectedArray)) {
+                System.out.println("✓ " + sorterName + ": Key sort test passed");
+                passedTests++;
+            } else {
+                System.out.println("✗ " + sorterName + ": Key sort test failed");
+                failedTests++;
+            }
+        } catch (Exception e) {
+            System.out.println("✗ " + sorterName + ": Key sort test failed - Error: " + e.getMessage());
+            failedTests++;
+        }
+    }
+
+    /**
+     * Tests the counters of InstrumentedSorter on inputs with known counts,
+     * and checks that quicksort reports its partitions.
+     */
+    private static void testInstrumentedSorter() {
+        System.out.println("\n=== Instrumented Sorter Tests ===");
+        Comparator<Integer> comparator = Integer::compareTo;
+
+        // Insertion sort of 5 reversed keys: 10 comparisons, 10 shifts and 4 placements.
+        InstrumentedSorter insert = new InstrumentedSorter(new MyInsertSort());
+        Integer[] reversed = new Integer[]{5, 4, 3, 2, 1};
+        insert.sort(reversed, comparator);
+        if (isSorted(reversed, comparator) && insert.getCalls() == 1 && insert.getElements() == 5
+                && insert.getComparisons() == 10 && insert.getMoves() == 14 && insert.getPartitions() == 0) {
+            System.out.println("✓ InstrumentedSorter: Insertion sort counts test passed");
+            passedTests++;
+        } else {
+            System.out.println("✗ InstrumentedSorter: Insertion sort counts test failed");
+            failedTests++;
+        }
+
+        InstrumentedSorter quick = new InstrumentedSorter(new MyQuickSort(new MyInsertSort(), 10));
+        Random random = new Random(3);
+        Integer[] testArray = new Integer[2000];
+        for (int i = 0; i < testArray.length; i++) {
+            testArray[i] = random.nextInt(10000);
+        }
+        quick.sort(testArray, comparator);
+        String row = quick.toCsvRow("quick");
+        if (isSorted(testArray, comparator) && quick.getComparisons() > 0 && quick.getMoves() > 0
+                && quick.getPartitions() > 0 && quick.getMaxPartitionDepth() > 0
+                && quick.getMeanPartitionDepth() <= quick.getMaxPartitionDepth()
+                && row.split(",").length == InstrumentedSorter.CSV_HEADER.split(",").length) {
+            System.out.println("✓ InstrumentedSorter: Quicksort partition statistics test passed");
+            passedTests++;
+        } else {
+            System.out.println("✗ InstrumentedSorter: Quicksort partition statistics test failed");
+            failedTests++;
+        }
+
+        // The primitive paths have no comparator to wrap and report their comparisons themselves.
+        InstrumentedSorter primitive = new InstrumentedSorter(new MyQuickSort(MyQuickSort.Partitioning.THREE_WAY));
+        InstrumentedSorter parallel = new InstrumentedSorter(new MyParallelQuickSort(null, -1, 64, ForkJoinPool.commonPool()));
+        int[] ints = new int[2000];
+        long[] longs = new long[2000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt(100);
+            longs[i] = random.nextLong();
+        }
+        primitive.sortDescending(ints);
+        parallel.sort(longs);
+        boolean primitiveSorted = true;
+        for (int i = 1; i < ints.length; i++) {
+            primitiveSorted &= ints[i - 1] >= ints[i] && longs[i - 1] <= longs[i];
+        }
+        if (primitiveSorted && primitive.getComparisons() >= ints.length && primitive.getMoves() > 0
+                && primitive.getPartitions() > 0 && parallel.getComparisons() >= longs.length
+                && parallel.getMoves() > 0 && parallel.getMaxPartitionDepth() > 0) {
+            System.out.println("✓ InstrumentedSorter: Primitive quicksort statistics test passed");
+            passedTests++;
+        } else {
+            System.out.println("✗ InstrumentedSorter: Primitive quicksort statistics test failed");
+            failedTests++;
+        }
+
+        quick.reset();
+        if (quick.getCalls() == 0 && quick.getComparisons() == 0 && quick.getLatencyPercentile(50) == 0) {
+            System.out.println("✓ InstrumentedSorter: Reset test passed");
+            passedTests++;
+        } else {
+            System.out.println("✗ InstrumentedSorter: Reset test failed");
+            failedTests++;
+        }
+    }
+
     /**
      * Helper method to check if an array is sorted according to the given comparator.
      */
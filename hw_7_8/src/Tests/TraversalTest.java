@@ -0,0 +1,206 @@
+package Tests;
+
+import DSA.Graphs.CSRGraph.CSRGraph;
+import DSA.Graphs.GTUGraph;
+import DSA.Graphs.MatrixGraph.MatrixGraph;
+import DSA.Graphs.Traversal.BreadthFirstSearch;
+import DSA.Graphs.Traversal.ConnectedComponents;
+import DSA.Graphs.Traversal.DepthFirstSearch;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A simple test class for the graph traversals.
+ * This class does not use any external testing libraries beyond core Java.
+ * Test results are printed to the console.
+ */
+public class TraversalTest {
+
+    /**
+     * Main method to run all traversal tests.
+     *
+     * @param args Command line arguments (not used).
+     */
+    public static void main(String[] args) {
+        System.out.println("--- Running Traversal Tests ---");
+        int testsRun = 0;
+        int testsPassed = 0;
+
+        // Test Case 1: BFS on a small graph
+        MatrixGraph small = new MatrixGraph(7);
+        small.setEdge(0, 1);
+        small.setEdge(1, 2);
+        small.setEdge(2, 3);
+        small.setEdge(0, 3);
+        small.setEdge(4, 5);
+        BreadthFirstSearch smallBfs = new BreadthFirstSearch(small);
+
+        testsRun++;
+        System.out.print("Test: BreadthFirstSearch - Distances on a small graph ... ");
+        if (Arrays.equals(smallBfs.distances(0), new int[] {0, 1, 2, 1, -1, -1, -1})
+                && Arrays.equals(smallBfs.distances(new int[] {2, 4}), new int[] {2, 1, 0, 1, 0, 1, -1})
+                && smallBfs.reachable(5, 4) && !smallBfs.reachable(0, 6)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 2: Direction-optimizing BFS
+        MatrixGraph dense = randomGraph(new MatrixGraph(3000), 60000, 5);
+        BreadthFirstSearch denseBfs = new BreadthFirstSearch(dense);
+        int[] denseDistances = denseBfs.distances(7);
+
+        testsRun++;
+        System.out.print("Test: BreadthFirstSearch - Bottom-up levels give the same distances ... ");
+        if (denseBfs.getBottomUpLevels() > 0 && Arrays.equals(denseDistances, referenceDistances(dense, 7))) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        boolean sameReachability = true;
+        for (int v = 0; v < dense.size(); v += 7) {
+            sameReachability &= denseBfs.reachable(7, v) == (denseDistances[v] >= 0);
+        }
+        int neighbor = dense.getNeighbors(7).iterator().next();
+        boolean stoppedEarly = denseBfs.reachable(7, neighbor) && denseBfs.getBottomUpLevels() == 0;
+
+        testsRun++;
+        System.out.print("Test: BreadthFirstSearch - reachable stops at the target ... ");
+        if (sameReachability && stoppedEarly && Arrays.equals(denseBfs.distances(7), denseDistances)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        CSRGraph sparse = randomGraph(new CSRGraph(20000), 15000, 9);
+
+        testsRun++;
+        System.out.print("Test: BreadthFirstSearch - Works on CSRGraph ... ");
+        if (Arrays.equals(new BreadthFirstSearch(sparse).distances(3), referenceDistances(sparse, 3))) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 3: DFS
+        DepthFirstSearch smallDfs = new DepthFirstSearch(small);
+        int firstTree = smallDfs.search(0);
+
+        testsRun++;
+        System.out.print("Test: DepthFirstSearch - Preorder, postorder and parents ... ");
+        if (firstTree == 4 && Arrays.equals(smallDfs.getPreorder(), new int[] {0, 1, 2, 3})
+                && Arrays.equals(smallDfs.getPostorder(), new int[] {3, 2, 1, 0})
+                && smallDfs.getParent(3) == 2 && smallDfs.getParent(0) == -1
+                && smallDfs.search(3) == 0 && smallDfs.searchAll() == 2 && smallDfs.visited(6)) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        int pathLength = 500000;
+        int[] pathEdges = new int[2 * (pathLength - 1)];
+        for (int v = 0; v + 1 < pathLength; v++) {
+            pathEdges[2 * v] = v;
+            pathEdges[2 * v + 1] = v + 1;
+        }
+        DepthFirstSearch pathDfs = new DepthFirstSearch(new CSRGraph(pathLength, pathEdges, pathLength - 1));
+        boolean deep;
+        try {
+            deep = pathDfs.search(0) == pathLength && pathDfs.getPostorder()[0] == pathLength - 1;
+        } catch (StackOverflowError e) {
+            deep = false;
+        }
+
+        testsRun++;
+        System.out.print("Test: DepthFirstSearch - Long paths do not overflow the stack ... ");
+        if (deep) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        // Test Case 4: Connected components
+        ConnectedComponents smallComponents = new ConnectedComponents(small);
+
+        testsRun++;
+        System.out.print("Test: ConnectedComponents - Components of a small graph ... ");
+        if (smallComponents.count() == 3 && smallComponents.connected(1, 3) && !smallComponents.connected(3, 4)
+                && smallComponents.componentOf(6) == 2 && smallComponents.size(1) == 2
+                && Arrays.equals(smallComponents.getVertices(0), new int[] {0, 1, 2, 3})) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        ConnectedComponents sparseComponents = new ConnectedComponents(sparse);
+        DepthFirstSearch sparseDfs = new DepthFirstSearch(sparse);
+        boolean sameComponents = sparseComponents.count() == sparseDfs.searchAll();
+        int[] sparseDistances = new BreadthFirstSearch(sparse).distances(3);
+        for (int v = 0; v < sparse.size(); v++) {
+            sameComponents &= sparseComponents.connected(3, v) == (sparseDistances[v] >= 0);
+        }
+
+        testsRun++;
+        System.out.print("Test: ConnectedComponents - Agrees with BFS and DFS ... ");
+        if (sameComponents) {
+            System.out.println("PASSED");
+            testsPassed++;
+        } else {
+            System.out.println("FAILED");
+        }
+
+        System.out.println("\n--- Traversal Tests Summary ---");
+        System.out.println("Total Tests Run: " + testsRun);
+        System.out.println("Tests Passed:    " + testsPassed);
+        System.out.println("Tests Failed:    " + (testsRun - testsPassed));
+        System.out.println("-------------------------------");
+    }
+
+    /**
+     * Helper method to add random edges to a graph.
+     * @param graph The graph to fill
+     * @param edges Number of edges to try to add
+     * @param seed Random seed
+     * @return the graph
+     */
+    private static <G extends GTUGraph> G randomGraph(G graph, int edges, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < edges; i++) {
+            graph.setEdge(random.nextInt(graph.size()), random.nextInt(graph.size()));
+        }
+        return graph;
+    }
+
+    /**
+     * Helper method computing BFS distances with a plain queue.
+     * @param graph The graph
+     * @param source The start vertex
+     * @return Distance of every vertex, -1 if unreachable
+     */
+    private static int[] referenceDistances(GTUGraph graph, int source) {
+        int[] distance = new int[graph.size()];
+        Arrays.fill(distance, -1);
+        distance[source] = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            for (int u : graph.getNeighbors(v)) {
+                if (distance[u] < 0) {
+                    distance[u] = distance[v] + 1;
+                    queue.add(u);
+                }
+            }
+        }
+        return distance;
+    }
+}